@@ -12,6 +12,7 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
@@ -23,8 +24,12 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.AsyncAddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.RecordAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -57,8 +62,11 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
+        if (userPrefs.isAddressBookJournalEnabled()) {
+            addressBookStorage = new JournaledAddressBookStorage(addressBookStorage);
+        }
+        storage = new StorageManager(new AsyncAddressBookStorage(addressBookStorage), userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
 
@@ -67,10 +75,26 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns an {@code AddressBookStorage} for the data file format in {@code userPrefs}.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        switch (userPrefs.getAddressBookFileFormat()) {
+        case BINARY:
+            return new BinaryAddressBookStorage(addressBookFilePath);
+        case RECORDS:
+            return new RecordAddressBookStorage(addressBookFilePath);
+        default:
+            return new JsonAddressBookStorage(addressBookFilePath);
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * or the backup address book, failing which an empty address book, will be used instead if errors occur when
+     * reading {@code storage}'s address book.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
@@ -85,14 +109,34 @@ public class MainApp extends Application {
             }
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
         } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
-                    + " Will be starting with an empty AddressBook.");
-            initialData = new AddressBook();
+            initialData = readBackupAddressBook(storage);
         }
 
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Returns the address book in the backup of {@code storage}'s data file, which is kept by every save.
+     * An empty address book is returned instead if the backup is missing or cannot be read either.
+     */
+    private ReadOnlyAddressBook readBackupAddressBook(Storage storage) {
+        Path backupFilePath = FileUtil.getBackupFile(storage.getAddressBookFilePath());
+        try {
+            Optional<ReadOnlyAddressBook> backupOptional = storage.readAddressBook(backupFilePath);
+            if (backupOptional.isPresent()) {
+                logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                        + " Will be starting with the backup at " + backupFilePath + ".");
+                return backupOptional.get();
+            }
+        } catch (DataLoadingException e) {
+            logger.warning("Backup data file at " + backupFilePath + " could not be loaded either.");
+        }
+
+        logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                + " Will be starting with an empty AddressBook.");
+        return new AddressBook();
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -177,6 +221,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
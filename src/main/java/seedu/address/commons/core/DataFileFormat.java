@@ -0,0 +1,28 @@
+package seedu.address.commons.core;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+/**
+ * The formats in which the address book data file can be stored.
+ */
+public enum DataFileFormat {
+    /** Human-readable JSON, which is also used to exchange data with other installations. */
+    JSON,
+    /** Compact binary snapshot, which is faster to load and save for large address books. */
+    BINARY,
+    /** Records whose details are only read from the file when first accessed, for faster startup. */
+    RECORDS;
+
+    /** The name {@link #RECORDS} was saved under in earlier versions, when its file was memory-mapped. */
+    private static final String LEGACY_RECORDS_NAME = "MAPPED";
+
+    /**
+     * Returns the format named {@code name}, also accepting the names formats were saved under in earlier versions.
+     *
+     * @throws IllegalArgumentException if no format has that name.
+     */
+    @JsonCreator
+    public static DataFileFormat fromName(String name) {
+        return LEGACY_RECORDS_NAME.equals(name) ? RECORDS : valueOf(name);
+    }
+}
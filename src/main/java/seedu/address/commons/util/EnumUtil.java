@@ -25,4 +25,20 @@ public class EnumUtil {
 
         return false;
     }
+
+    /**
+     * Returns the constant of the specified Enum class with the given ordinal.
+     *
+     * @param <R> The type of the Enum being looked up.
+     * @param ordinal The ordinal of the constant.
+     * @param enumtype The Enum class to look up.
+     * @throws IllegalArgumentException if {@code ordinal} does not belong to any constant of {@code enumtype}.
+     */
+    public static <R extends Enum<R>> R fromOrdinal(int ordinal, Class<R> enumtype) {
+        R[] constants = enumtype.getEnumConstants();
+        if (ordinal < 0 || ordinal >= constants.length) {
+            throw new IllegalArgumentException("No " + enumtype.getSimpleName() + " with ordinal " + ordinal);
+        }
+        return constants[ordinal];
+    }
 }
@@ -1,10 +1,19 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
 
 /**
  * Writes and reads files
@@ -12,6 +21,8 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String BACKUP_FILE_SUFFIX = ".bak";
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -73,11 +84,115 @@ public class FileUtil {
     }
 
     /**
-     * Writes given string to a file.
+     * Writes given string to a file, atomically as in {@link #writeAtomically}.
      * Will create the file if it does not exist yet.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeAtomically(file, out -> out.write(content.getBytes(CHARSET)));
+    }
+
+    /**
+     * Replaces the contents of a file with the output of {@code contentWriter}.
+     * The output is written to a sibling temp file and forced to disk before the temp file is atomically moved
+     * over the file, so that a crash leaves either the old or the new contents behind, never a partial file.
+     * Will create the file if it does not exist yet.
+     */
+    public static void writeAtomically(Path file, ContentWriter contentWriter) throws IOException {
+        Path tempFile = writeTempFile(file, contentWriter);
+        moveAtomically(tempFile, file);
+        forceParentDirectory(file);
+    }
+
+    /**
+     * Similar to {@link #writeAtomically}, but first keeps the current contents of the file, if it exists, in the
+     * backup file given by {@link #getBackupFile(Path)}, replacing any earlier backup.
+     */
+    public static void writeAtomicallyWithBackup(Path file, ContentWriter contentWriter) throws IOException {
+        Path tempFile = writeTempFile(file, contentWriter);
+        if (isFileExists(file)) {
+            Path backupFile = getBackupFile(file);
+            Path tempBackupFile = siblingOf(backupFile, TEMP_FILE_SUFFIX);
+            Files.copy(file, tempBackupFile, StandardCopyOption.REPLACE_EXISTING);
+            try (FileChannel channel = FileChannel.open(tempBackupFile, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            moveAtomically(tempBackupFile, backupFile);
+        }
+        moveAtomically(tempFile, file);
+        forceParentDirectory(file);
+    }
+
+    /**
+     * Returns the backup file kept for {@code file} by {@link #writeAtomicallyWithBackup}.
+     */
+    public static Path getBackupFile(Path file) {
+        return siblingOf(file, BACKUP_FILE_SUFFIX);
+    }
+
+    /**
+     * Appends the given lines to the end of a file, each terminated by a line separator.
+     * Will create the file if it does not exist yet.
+     */
+    public static void appendLinesToFile(Path file, List<String> lines) throws IOException {
+        Files.write(file, lines, Charset.forName(CHARSET), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Writes the output of {@code contentWriter} to a sibling temp file of {@code file} and forces it to disk.
+     * Returns the temp file.
+     */
+    private static Path writeTempFile(Path file, ContentWriter contentWriter) throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = siblingOf(file, TEMP_FILE_SUFFIX);
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            // The channel must stay open until it has been forced, even if the writer closes the stream.
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel)) {
+                @Override
+                public void close() throws IOException {
+                    flush();
+                }
+            };
+            contentWriter.writeTo(out);
+            out.flush();
+            channel.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        return tempFile;
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the directory containing {@code file} to disk, so that a completed move survives a crash.
+     */
+    private static void forceParentDirectory(Path file) {
+        Path parentDir = file.toAbsolutePath().getParent();
+        try (FileChannel channel = FileChannel.open(parentDir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Directories cannot be opened or forced on some platforms, where the move is durable on its own.
+        }
+    }
+
+    private static Path siblingOf(Path file, String suffix) {
+        return file.resolveSibling(file.getFileName() + suffix);
+    }
+
+    /**
+     * Writes the contents of a file to an {@code OutputStream}.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
     }
 
 }
@@ -2,7 +2,10 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +14,9 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -92,6 +98,45 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Opens a streaming {@code JsonParser} over the given file, so that large files can be read one value at a
+     * time instead of being loaded into memory in full.
+     * Values read through the parser with {@code readValueAs} are converted the same way as {@link #readJsonFile}.
+     * The caller is responsible for closing the parser, which also closes the file.
+     *
+     * @param filePath cannot be null.
+     * @throws IOException if the file could not be opened.
+     */
+    public static JsonParser createJsonParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return objectMapper.createParser(new BufferedInputStream(Files.newInputStream(filePath)));
+    }
+
+    /**
+     * Opens a streaming, pretty-printing {@code JsonGenerator} over the given file, so that large objects can be
+     * written one value at a time instead of being built as a string in full.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * The caller is responsible for closing the generator, which also flushes and closes the file.
+     *
+     * @param filePath cannot be null.
+     * @throws IOException if the file could not be opened.
+     */
+    public static JsonGenerator createJsonGenerator(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return createJsonGenerator(new BufferedOutputStream(Files.newOutputStream(filePath)));
+    }
+
+    /**
+     * Similar to {@link #createJsonGenerator(Path)}, but writes to the given stream.
+     * Closing the generator also closes the stream.
+     *
+     * @param out cannot be null.
+     */
+    public static JsonGenerator createJsonGenerator(OutputStream out) throws IOException {
+        requireNonNull(out);
+        return objectMapper.createGenerator(out, JsonEncoding.UTF8).useDefaultPrettyPrinter();
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -111,6 +156,17 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into a single-line JSON data string representation,
+     * suitable for line-oriented files such as journals.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, without line breaks
+     */
+    public static <T> String toJsonLine(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
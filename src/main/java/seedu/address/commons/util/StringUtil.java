@@ -6,12 +6,16 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
 
 /**
  * Helper functions for handling strings.
  */
 public class StringUtil {
 
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      *   Ignores case, but a full word match is required.
@@ -38,6 +42,55 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns the words of {@code text} in lower case, in the order they appear. A word is a run of letters and
+     * digits, so punctuation separates words as whitespace does.
+     *   <br>examples:<pre>
+     *       toWords("Essay on Macbeth's ghost") == ["essay", "on", "macbeth", "s", "ghost"]
+     *       toWords("  ") == []
+     *       </pre>
+     * @param text cannot be null
+     */
+    public static List<String> toWords(String text) {
+        requireNonNull(text);
+        return WORD_SEPARATOR.splitAsStream(text.toLowerCase())
+                .filter(word -> !word.isEmpty())
+                .toList();
+    }
+
+    /**
+     * Returns the edit distance between {@code first} and {@code second}, which is the least number of characters
+     * that must be inserted, deleted or replaced to turn one into the other. Case is not ignored.
+     *   <br>examples:<pre>
+     *       editDistance("Alice", "Alcie") == 2
+     *       editDistance("Alice", "Alice Tan") == 4
+     *       </pre>
+     * @param first cannot be null
+     * @param second cannot be null
+     */
+    public static int editDistance(String first, String second) {
+        requireNonNull(first);
+        requireNonNull(second);
+
+        int[] previousRow = new int[second.length() + 1];
+        int[] currentRow = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            currentRow[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int replaceCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                currentRow[j] = Math.min(previousRow[j - 1] + replaceCost,
+                        Math.min(previousRow[j], currentRow[j - 1]) + 1);
+            }
+            int[] swap = previousRow;
+            previousRow = currentRow;
+            currentRow = swap;
+        }
+        return previousRow[second.length()];
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -24,6 +24,12 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Blocks until every change made by earlier commands has been saved.
+     * @throws CommandException If any of those changes could not be saved.
+     */
+    void flush() throws CommandException;
+
     /**
      * Returns the AddressBook.
      *
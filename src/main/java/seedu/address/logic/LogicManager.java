@@ -3,6 +3,8 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.NavigableMap;
+import java.util.TreeMap;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -16,6 +18,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.student.Student;
+import seedu.address.storage.BackgroundSaveException;
 import seedu.address.storage.Storage;
 
 /**
@@ -27,11 +30,24 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String FILE_OPS_COMMAND_ERROR_FORMAT =
+            "Could not save the changes made by \"%s\" due to the following error: %s";
+
+    public static final String FILE_OPS_COMMAND_PERMISSION_ERROR_FORMAT =
+            "Could not save the changes made by \"%s\" to file %s due to insufficient permissions to write to the file "
+            + "or the folder.";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    /** The text of the commands whose saves may not have been written yet, by the version they saved. */
+    private final NavigableMap<Long, String> unwrittenCommandTexts = new TreeMap<>();
+
+    private ReadOnlyAddressBook lastSavedAddressBook;
+    private long lastSavedVersion;
+    private int skippedSaveCount;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -46,21 +62,107 @@ public class LogicManager implements Logic {
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
+        checkEarlierSaves();
+
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            saveIfModified(model.getAddressBook(), commandText);
+            if (commandResult.isExit()) {
+                storage.flush();
+                unwrittenCommandTexts.clear();
+            }
+        } catch (IOException e) {
+            lastSavedAddressBook = null;
+            throw toCommandException(e);
         }
 
         return commandResult;
     }
 
+    @Override
+    public void flush() throws CommandException {
+        try {
+            saveIfModified(model.getAddressBook(), null);
+            storage.flush();
+            unwrittenCommandTexts.clear();
+        } catch (IOException e) {
+            lastSavedAddressBook = null;
+            throw toCommandException(e);
+        }
+    }
+
+    /**
+     * Returns the number of commands whose save was skipped because the address book was left unchanged.
+     */
+    public int getSkippedSaveCount() {
+        return skippedSaveCount;
+    }
+
+    /**
+     * Reports the failure of an earlier save written in the background, even if no command has changed the address
+     * book since, so that the failure is not left hidden behind commands that skip their save.
+     */
+    private void checkEarlierSaves() throws CommandException {
+        try {
+            if (storage.checkSaved()) {
+                unwrittenCommandTexts.clear();
+            }
+        } catch (IOException e) {
+            lastSavedAddressBook = null;
+            throw toCommandException(e);
+        }
+    }
+
+    /**
+     * Saves {@code addressBook} unless it is unchanged since it was last saved, recording {@code commandText} as the
+     * command whose changes are saved, if there is one.
+     */
+    private void saveIfModified(ReadOnlyAddressBook addressBook, String commandText) throws IOException {
+        if (addressBook == lastSavedAddressBook && addressBook.getVersion() == lastSavedVersion) {
+            skippedSaveCount++;
+            logger.fine("Address book unchanged, skipping save");
+            return;
+        }
+
+        long version = addressBook.getVersion();
+        if (commandText != null) {
+            unwrittenCommandTexts.put(version, commandText);
+        }
+        storage.saveAddressBook(addressBook);
+        lastSavedAddressBook = addressBook;
+        lastSavedVersion = version;
+    }
+
+    private CommandException toCommandException(IOException e) {
+        if (e instanceof BackgroundSaveException) {
+            return toCommandException((BackgroundSaveException) e);
+        }
+        if (e instanceof AccessDeniedException) {
+            return new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+        }
+        return new CommandException(String.format(FILE_OPS_ERROR_FORMAT, e.getMessage()), e);
+    }
+
+    /**
+     * Returns the error for a save that failed in the background, naming the command whose changes it saved.
+     * Saves of earlier versions either failed along with it or were replaced by it, so they are no longer tracked.
+     */
+    private CommandException toCommandException(BackgroundSaveException e) {
+        String commandText = unwrittenCommandTexts.get(e.getVersion());
+        unwrittenCommandTexts.headMap(e.getVersion(), true).clear();
+        if (commandText == null) {
+            return toCommandException((IOException) e.getCause());
+        }
+        if (e.getCause() instanceof AccessDeniedException) {
+            return new CommandException(String.format(FILE_OPS_COMMAND_PERMISSION_ERROR_FORMAT, commandText,
+                    e.getMessage()), e);
+        }
+        return new CommandException(String.format(FILE_OPS_COMMAND_ERROR_FORMAT, commandText, e.getMessage()), e);
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -1,10 +1,14 @@
 package seedu.address.logic;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import seedu.address.logic.parser.Prefix;
+import seedu.address.model.student.LessonTime;
+import seedu.address.model.student.Name;
 import seedu.address.model.student.Student;
 
 /**
@@ -18,6 +22,7 @@ public class Messages {
             + " of students in the list";
     public static final String MESSAGE_STUDENT_NOT_FOUND =
             "No student found with the specified name. Please check the name and try again";
+    public static final String MESSAGE_SIMILAR_NAMES = "Did you mean: %1$s?";
     public static final String MESSAGE_STUDENTS_LISTED_OVERVIEW = "%1$d student(s) listed!";
     public static final String MESSAGE_INVALID_STUDENT_UPDATE =
             "This student does not exist. Create a student first before updating";
@@ -25,6 +30,7 @@ public class Messages {
             "Multiple values specified for the following single-valued field(s): ";
     public static final String MESSAGE_INVALID_TASK_DISPLAYED_INDEX = "The task index provided exceeds the number of "
             + "tasks in the list";
+    public static final String MESSAGE_LESSON_CLASH = "\nNote: lesson %1$s clashes with %2$s";
 
     /**
      * Returns an error message indicating the duplicate prefixes.
@@ -38,6 +44,32 @@ public class Messages {
         return MESSAGE_DUPLICATE_FIELDS + String.join(" ", duplicateFields);
     }
 
+    /**
+     * Returns {@code message}, followed by a suggestion of {@code similarNames} if there are any.
+     */
+    public static String getMessageWithSimilarNames(String message, List<Name> similarNames) {
+        if (similarNames.isEmpty()) {
+            return message;
+        }
+
+        String names = similarNames.stream().map(Name::toString).collect(Collectors.joining(", "));
+        return message + "\n" + String.format(MESSAGE_SIMILAR_NAMES, names);
+    }
+
+    /**
+     * Returns a note on each lesson time in {@code clashes} naming the students it clashes with, or an empty string if
+     * there are no clashes.
+     */
+    public static String getMessageForLessonClashes(Map<LessonTime, List<Student>> clashes) {
+        StringBuilder builder = new StringBuilder();
+        clashes.forEach((lessonTime, students) -> {
+            String names = students.stream().map(student -> student.getName().fullName)
+                    .collect(Collectors.joining(", "));
+            builder.append(String.format(MESSAGE_LESSON_CLASH, lessonTime, names));
+        });
+        return builder.toString();
+    }
+
     /**
      * Formats the {@code student} for display to the user.
      */
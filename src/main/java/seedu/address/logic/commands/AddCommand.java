@@ -71,7 +71,9 @@ public class AddCommand extends Command {
 
         model.addStudent(toAdd);
         model.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(toAdd)), UiState.DETAILS);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(toAdd))
+                + Messages.getMessageForLessonClashes(model.findLessonClashes(toAdd, toAdd.getLessonTimes())),
+                UiState.DETAILS);
     }
 
     @Override
@@ -63,10 +63,7 @@ public class AddTaskCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        Student targetStudent = model.getStudentByName(name);
-        if (targetStudent == null) {
-            throw new CommandException(MESSAGE_STUDENT_NOT_FOUND);
-        }
+        Student targetStudent = findStudent(model, name, MESSAGE_STUDENT_NOT_FOUND);
 
         if (targetStudent.getTaskList().contains(taskToAdd)) {
             throw new CommandException(MESSAGE_DUPLICATE_TASK);
@@ -0,0 +1,99 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TASK_DEADLINE;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.student.predicate.TaskDueBetweenPredicate;
+import seedu.address.model.student.task.DueTask;
+import seedu.address.ui.Ui.UiState;
+
+/**
+ * Lists the tasks of all students in the address book that are due next, ordered by deadline.
+ * The students with a task due by the deadline of the last listed task are shown alongside.
+ */
+public class AgendaCommand extends Command {
+
+    public static final String COMMAND_WORD = "agenda";
+
+    public static final int DEFAULT_COUNT = 10;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the tasks of all students that are due next, "
+            + "ordered by deadline. Lists up to " + DEFAULT_COUNT + " tasks due from today by default.\n"
+            + "Parameters: [COUNT] [" + PREFIX_TASK_DEADLINE + "FROM_DATE]\n"
+            + "Example: " + COMMAND_WORD + " 5 " + PREFIX_TASK_DEADLINE + "2024-12-25";
+
+    public static final String MESSAGE_SUCCESS = "Listed %1$d upcoming task(s)";
+
+    /** The first day to list tasks from, or null to list tasks from the day the command is executed. */
+    private final LocalDate fromDate;
+    private final int count;
+
+    /**
+     * Creates an AgendaCommand to list up to {@code count} tasks due from the day it is executed.
+     */
+    public AgendaCommand(int count) {
+        checkArgument(count > 0, "Count must be positive");
+        this.fromDate = null;
+        this.count = count;
+    }
+
+    /**
+     * Creates an AgendaCommand to list up to {@code count} tasks due on or after {@code fromDate}.
+     */
+    public AgendaCommand(LocalDate fromDate, int count) {
+        requireNonNull(fromDate);
+        checkArgument(count > 0, "Count must be positive");
+        this.fromDate = fromDate;
+        this.count = count;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        LocalDate date = fromDate == null ? LocalDate.now() : fromDate;
+        List<DueTask> dueTasks = model.findTasksDueFrom(date, count);
+
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_SUCCESS, dueTasks.size()));
+        for (int i = 0; i < dueTasks.size(); i++) {
+            builder.append("\n").append(i + 1).append(". ").append(dueTasks.get(i).toDescription());
+        }
+
+        // No task is due from date if none is listed, so no student is shown then
+        LocalDate lastDeadline = dueTasks.isEmpty() ? date
+                : dueTasks.get(dueTasks.size() - 1).getTask().getTaskDeadline().taskDeadline;
+        model.updateFilteredStudentList(new TaskDueBetweenPredicate(date, lastDeadline).toIndexedPredicate(model));
+
+        return new CommandResult(builder.toString(), UiState.TASKS);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AgendaCommand)) {
+            return false;
+        }
+
+        AgendaCommand otherAgendaCommand = (AgendaCommand) other;
+        return Objects.equals(fromDate, otherAgendaCommand.fromDate)
+                && count == otherAgendaCommand.count;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("fromDate", fromDate)
+                .add("count", count)
+                .toString();
+    }
+}
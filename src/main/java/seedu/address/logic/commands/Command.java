@@ -1,13 +1,19 @@
 package seedu.address.logic.commands;
 
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Student;
 
 /**
  * Represents a command with hidden internal logic and the ability to be executed.
  */
 public abstract class Command {
 
+    /** The greatest number of similar names suggested when a student is not found. */
+    public static final int MAX_SIMILAR_NAMES = 3;
+
     /**
      * Executes the command and returns the result message.
      *
@@ -17,4 +23,15 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns the student in {@code model} with the given {@code name}, regardless of the current filter.
+     *
+     * @throws CommandException with {@code notFoundMessage}, followed by the names of the students closest to
+     *     {@code name}, if there is no such student.
+     */
+    protected static Student findStudent(Model model, Name name, String notFoundMessage) throws CommandException {
+        return model.findStudent(name).orElseThrow(() -> new CommandException(
+                Messages.getMessageWithSimilarNames(notFoundMessage, model.findSimilarNames(name, MAX_SIMILAR_NAMES))));
+    }
+
 }
@@ -4,10 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TASK_INDEX;
 
-import java.util.Optional;
 import java.util.Set;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
@@ -64,18 +62,11 @@ public class DeleteTaskCommand extends Command {
         requireNonNull(model);
 
         // Get the student we are looking for
-        ObservableList<Student> studentList = model.getAddressBook().getStudentList();
-        Optional<Student> optionalStudent = studentList.stream()
-                .filter(x -> x.getName().equals(targetName))
-                .findFirst();
-        if (optionalStudent.isEmpty()) {
-            throw new CommandException(Messages.MESSAGE_STUDENT_NOT_FOUND);
-        }
-        Student targetStudent = optionalStudent.get();
+        Student targetStudent = findStudent(model, targetName, Messages.MESSAGE_STUDENT_NOT_FOUND);
 
         // Get the Task to be deleted
         TaskList taskList = targetStudent.getTaskList();
-        if (targetIndex.getZeroBased() >= taskList.asUnmodifiableObservableList().size()) {
+        if (targetIndex.getZeroBased() >= taskList.size()) {
             throw new CommandException(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
         }
         Task taskToDelete = taskList.get(targetIndex.getZeroBased());
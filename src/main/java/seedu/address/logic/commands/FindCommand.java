@@ -1,44 +1,68 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_KEYWORD;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LESSON_TIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LEVEL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PENDING_TASKS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECT;
 
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.function.Predicate;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
-import seedu.address.model.student.predicate.ContainsKeywordsPredicate;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.predicate.QueryPredicate;
 import seedu.address.ui.Ui.UiState;
 
 /**
- * Finds and lists all students in address book whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Finds and lists all students in address book who match all, or any, of the given criteria.
+ * Keyword matching is case insensitive. Students found by words in their notes and tasks are listed by relevance.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all students based on either name, subject(s) or"
-            + " level, using the specified keywords (case-insensitive) and "
-            + "displays them as a list with index numbers.\n"
-            + "Parameters (choose only one): " + PREFIX_NAME + "NAME [NAME]... or "
-            + PREFIX_LEVEL + "LEVEL or "
-            + PREFIX_SUBJECT + "SUBJECT [SUBJECT]..." + "\n"
+    public static final String MATCH_ANY = "any";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all students based on their name, level, "
+            + "subject(s), lesson day(s), pending tasks and the words in their notes and tasks, using the specified "
+            + "keywords (case-insensitive) and displays them as a list with index numbers. Students found by words "
+            + "are listed with the most frequent users of the words first.\n"
+            + "Students must match all given criteria, or any of them if the parameters start with "
+            + MATCH_ANY + ".\n"
+            + "Parameters (at least one): [" + MATCH_ANY + "] "
+            + "[" + PREFIX_NAME + "NAME [NAME]...] "
+            + "[" + PREFIX_LEVEL + "LEVEL] "
+            + "[" + PREFIX_SUBJECT + "SUBJECT [SUBJECT]...] "
+            + "[" + PREFIX_LESSON_TIME + "DAY [DAY]...] "
+            + "[" + PREFIX_PENDING_TASKS + "] "
+            + "[" + PREFIX_KEYWORD + "WORD [WORD]...]\n"
             + "Example: " + COMMAND_WORD + " " + PREFIX_NAME + "Alex David or "
-            + COMMAND_WORD + " " + PREFIX_LEVEL + "S2 NA or "
-            + COMMAND_WORD + " " + PREFIX_SUBJECT + "MATH";
+            + COMMAND_WORD + " " + PREFIX_LEVEL + "S2 NA " + PREFIX_SUBJECT + "MATH " + PREFIX_PENDING_TASKS + " or "
+            + COMMAND_WORD + " " + MATCH_ANY + " " + PREFIX_SUBJECT + "MATH " + PREFIX_LESSON_TIME + "MON or "
+            + COMMAND_WORD + " " + PREFIX_KEYWORD + "essay macbeth";
 
-    private final ContainsKeywordsPredicate predicate;
+    private final QueryPredicate predicate;
 
-    public FindCommand(ContainsKeywordsPredicate predicate) {
+    public FindCommand(QueryPredicate predicate) {
         this.predicate = predicate;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredStudentList(predicate);
+        Predicate<Student> indexedPredicate = predicate.toIndexedPredicate(model);
+        Optional<Comparator<Student>> ranking = predicate.rankMatches(model);
+        if (ranking.isPresent()) {
+            model.updateFilteredStudentList(indexedPredicate, ranking.get());
+        } else {
+            model.updateFilteredStudentList(indexedPredicate);
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW, model.getFilteredStudentList().size()),
                 UiState.DETAILS);
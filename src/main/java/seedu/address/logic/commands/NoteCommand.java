@@ -5,8 +5,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_STUDENTS;
 
-import java.util.List;
-
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
@@ -50,18 +48,7 @@ public class NoteCommand extends Command {
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        List<Student> allStudents = model.getAddressBook().getStudentList();
-        Student studentToEdit = null;
-
-        for (Student student : allStudents) {
-            if (student.getName().equals(name)) {
-                studentToEdit = student;
-            }
-        }
-
-        if (studentToEdit == null) {
-            throw new CommandException(Messages.MESSAGE_STUDENT_NOT_FOUND);
-        }
+        Student studentToEdit = findStudent(model, name, Messages.MESSAGE_STUDENT_NOT_FOUND);
 
         Student editedStudent = new Student(
                 studentToEdit.getName(), studentToEdit.getPhone(), studentToEdit.getEmergencyContact(),
@@ -0,0 +1,60 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LESSON_TIME;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.student.predicate.LessonTimeOverlapsPredicate;
+import seedu.address.ui.Ui.UiState;
+
+/**
+ * Lists all students in address book with a lesson overlapping the given lesson time.
+ */
+public class OverlapCommand extends Command {
+
+    public static final String COMMAND_WORD = "overlap";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all students with a lesson overlapping the "
+            + "given lesson time and displays them as a list with index numbers.\n"
+            + "Parameters: " + PREFIX_LESSON_TIME + "LESSON_TIME\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_LESSON_TIME + "WED-15:00-17:00";
+
+    private final LessonTimeOverlapsPredicate predicate;
+
+    public OverlapCommand(LessonTimeOverlapsPredicate predicate) {
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredStudentList(predicate.toIndexedPredicate(model));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW, model.getFilteredStudentList().size()),
+                UiState.DETAILS);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof OverlapCommand)) {
+            return false;
+        }
+
+        OverlapCommand otherOverlapCommand = (OverlapCommand) other;
+        return predicate.equals(otherOverlapCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
@@ -7,7 +7,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECT;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_STUDENTS;
 
 import java.util.HashSet;
-import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -68,18 +67,7 @@ public class TagCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        List<Student> lastShownList = model.getFilteredStudentList();
-
-        Optional<Student> optionalStudentToTag = lastShownList.stream()
-                .filter(x -> x.getName()
-                    .equals(nameToTag)).findFirst();
-
-        Student studentToTag;
-        if (optionalStudentToTag.isPresent()) {
-            studentToTag = optionalStudentToTag.get();
-        } else {
-            throw new CommandException(MESSAGE_STUDENT_NOT_FOUND);
-        }
+        Student studentToTag = findStudent(model, nameToTag, MESSAGE_STUDENT_NOT_FOUND);
 
         Student studentWithTags = createStudentWithTags(studentToTag, tagsToAdd);
 
@@ -105,7 +93,7 @@ public class TagCommand extends Command {
         Optional<Set<Subject>> newSubjects = tagsToAdd.getSubjects();
         Set<Subject> updatedSubjects = newSubjects.orElse(studentToTag.getSubjects());
 
-        if (updatedLevel.equals(new Level("None None"))) {
+        if (updatedLevel == Level.NONE) {
             if (newSubjects.isPresent()) {
                 throw new CommandException(Subject.MESSAGE_LEVEL_NEEDED);
             }
@@ -78,15 +78,11 @@ public class UpdateCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Student> lastShownList = model.getFilteredStudentList();
         if (name.fullName.isEmpty()) {
             throw new CommandException(Messages.MESSAGE_INVALID_STUDENT_UPDATE);
         }
 
-        Student studentToUpdate = lastShownList.stream()
-                .filter(student -> student.getName().equals(name))
-                .findFirst()
-                .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_STUDENT_UPDATE));
+        Student studentToUpdate = findStudent(model, name, Messages.MESSAGE_INVALID_STUDENT_UPDATE);
         Student updatedStudent = createUpdatedStudent(studentToUpdate, updateStudentDescriptor);
 
         if (!studentToUpdate.isSameStudent(updatedStudent) && model.hasStudent(updatedStudent)) {
@@ -95,7 +91,12 @@ public class UpdateCommand extends Command {
 
         model.setStudent(studentToUpdate, updatedStudent);
         model.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
-        return new CommandResult(String.format(MESSAGE_UPDATE_STUDENT_SUCCESS, Messages.format(updatedStudent)),
+        // Clashes are only described for lessons this update adds, so that it does not repeat existing clashes
+        List<LessonTime> addedLessonTimes = updatedStudent.getLessonTimes().stream()
+                .filter(lessonTime -> !studentToUpdate.getLessonTimes().contains(lessonTime))
+                .toList();
+        return new CommandResult(String.format(MESSAGE_UPDATE_STUDENT_SUCCESS, Messages.format(updatedStudent))
+                + Messages.getMessageForLessonClashes(model.findLessonClashes(updatedStudent, addedLessonTimes)),
                 UiState.DETAILS);
     }
 
@@ -118,7 +119,7 @@ public class UpdateCommand extends Command {
         Optional<Set<Subject>> newSubjects = updateStudentDescriptor.getSubjects();
         Set<Subject> updatedSubjects = newSubjects.orElse(studentToUpdate.getSubjects());
 
-        if (updatedLevel.equals(new Level("None None"))) {
+        if (updatedLevel == Level.NONE) {
             if (newSubjects.isPresent()) {
                 throw new CommandException(Subject.MESSAGE_LEVEL_NEEDED);
             }
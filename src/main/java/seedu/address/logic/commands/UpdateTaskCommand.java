@@ -8,7 +8,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_TASK_DESCRIPTION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TASK_INDEX;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_STUDENTS;
 
-import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -70,19 +69,14 @@ public class UpdateTaskCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Student> lastShownList = model.getFilteredStudentList();
-
         if (name.toString().isEmpty()) {
             throw new CommandException(Messages.MESSAGE_INVALID_STUDENT_UPDATE);
         }
 
-        Student studentToUpdate = lastShownList.stream()
-                .filter(student -> student.getName().equals(name))
-                .findFirst()
-                .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_STUDENT_UPDATE));
+        Student studentToUpdate = findStudent(model, name, Messages.MESSAGE_INVALID_STUDENT_UPDATE);
 
         TaskList taskList = studentToUpdate.getTaskList();
-        if (taskIndex.getZeroBased() >= taskList.asUnmodifiableObservableList().size()
+        if (taskIndex.getZeroBased() >= taskList.size()
                 || taskIndex.getOneBased() < 0) {
             throw new CommandException(String.format(MESSAGE_TASK_NOT_FOUND,
                     taskIndex.getOneBased(), studentToUpdate.getName()));
@@ -4,8 +4,6 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_STUDENTS;
 
-import java.util.List;
-
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
@@ -38,18 +36,7 @@ public class ViewCommand extends Command {
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        List<Student> allStudents = model.getAddressBook().getStudentList();
-        Student studentToView = null;
-
-        for (Student student : allStudents) {
-            if (student.getName().equals(name)) {
-                studentToView = student;
-            }
-        }
-
-        if (studentToView == null) {
-            throw new CommandException(Messages.MESSAGE_STUDENT_NOT_FOUND);
-        }
+        Student studentToView = findStudent(model, name, Messages.MESSAGE_STUDENT_NOT_FOUND);
 
         model.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
 
@@ -19,7 +19,7 @@ public class ViewTasksCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.updateFilteredStudentList(new TaskListNotEmptyPredicate());
+        model.updateFilteredStudentList(new TaskListNotEmptyPredicate().toIndexedPredicate(model));
 
         return new CommandResult(MESSAGE_SUCCESS, UiState.TASKS);
     }
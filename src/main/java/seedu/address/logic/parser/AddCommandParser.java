@@ -59,7 +59,7 @@ public class AddCommandParser implements Parser<AddCommand> {
         TaskList taskList = new TaskList();
 
         //Parse optional arguments
-        Level level = new Level("NONE NONE");
+        Level level = Level.NONE;
         if (argMultimap.getValue(PREFIX_LEVEL).isPresent()) {
             level = ParserUtil.parseLevel(argMultimap.getValue(PREFIX_LEVEL).get());
         }
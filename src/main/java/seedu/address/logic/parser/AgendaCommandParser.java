@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TASK_DEADLINE;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.AgendaCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new {@code AgendaCommand} object
+ */
+public class AgendaCommandParser implements Parser<AgendaCommand> {
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code AgendaCommand}
+     * and returns an {@code AgendaCommand} object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public AgendaCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TASK_DEADLINE);
+
+        String preamble = argMultimap.getPreamble();
+        if (!preamble.isEmpty() && !StringUtil.isNonZeroUnsignedInteger(preamble)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AgendaCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_TASK_DEADLINE);
+
+        int count = preamble.isEmpty() ? AgendaCommand.DEFAULT_COUNT : Integer.parseInt(preamble);
+        Optional<String> fromDate = argMultimap.getValue(PREFIX_TASK_DEADLINE);
+        if (fromDate.isEmpty()) {
+            return new AgendaCommand(count);
+        }
+
+        LocalDate date = ParserUtil.parseTaskDeadline(fromDate.get()).taskDeadline;
+        return new AgendaCommand(date, count);
+    }
+}
@@ -17,5 +17,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_TASK_DEADLINE = new Prefix("d/");
     public static final Prefix PREFIX_TASK_INDEX = new Prefix("ti/");
     public static final Prefix PREFIX_LESSON_TIME = new Prefix("lt/");
+    public static final Prefix PREFIX_PENDING_TASKS = new Prefix("pt/");
+    public static final Prefix PREFIX_KEYWORD = new Prefix("k/");
 
 }
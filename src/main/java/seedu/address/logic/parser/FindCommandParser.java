@@ -2,87 +2,154 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_KEYWORD;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LESSON_TIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LEVEL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PENDING_TASKS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECT;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.student.LessonTime;
 import seedu.address.model.student.Level;
 import seedu.address.model.student.Name;
 import seedu.address.model.student.Subject;
+import seedu.address.model.student.predicate.CombinedPredicate;
+import seedu.address.model.student.predicate.LessonDayContainsKeywordsPredicate;
 import seedu.address.model.student.predicate.LevelContainsKeywordsPredicate;
 import seedu.address.model.student.predicate.NameContainsKeywordsPredicate;
+import seedu.address.model.student.predicate.QueryPredicate;
 import seedu.address.model.student.predicate.SubjectContainsKeywordsPredicate;
+import seedu.address.model.student.predicate.TaskListNotEmptyPredicate;
+import seedu.address.model.student.predicate.TextContainsKeywordsPredicate;
 
 /**
  * Parses input arguments and creates a new FindCommand object
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    public static final String MESSAGE_EMPTY_KEYWORDS = "Words to find should contain at least one letter or digit.";
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_LEVEL, PREFIX_SUBJECT);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args,
+                PREFIX_NAME, PREFIX_LEVEL, PREFIX_SUBJECT, PREFIX_LESSON_TIME, PREFIX_PENDING_TASKS, PREFIX_KEYWORD);
+
+        String preamble = argMultimap.getPreamble();
+        boolean isMatchAny = preamble.equalsIgnoreCase(FindCommand.MATCH_ANY);
+        if (!preamble.isEmpty() && !isMatchAny) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
 
-        boolean isByName = argMultimap.getValue(PREFIX_NAME).isPresent();
-        boolean isByLevel = argMultimap.getValue(PREFIX_LEVEL).isPresent();
-        boolean isBySubject = argMultimap.getValue(PREFIX_SUBJECT).isPresent();
+        argMultimap.verifyNoDuplicatePrefixesFor(
+                PREFIX_NAME, PREFIX_LEVEL, PREFIX_SUBJECT, PREFIX_LESSON_TIME, PREFIX_PENDING_TASKS, PREFIX_KEYWORD);
+
+        List<QueryPredicate> predicates = new ArrayList<>();
+        Optional<String> names = argMultimap.getValue(PREFIX_NAME);
+        if (names.isPresent()) {
+            predicates.add(parseNames(names.get()));
+        }
+        Optional<String> level = argMultimap.getValue(PREFIX_LEVEL);
+        if (level.isPresent()) {
+            predicates.add(parseLevel(level.get()));
+        }
+        Optional<String> subjects = argMultimap.getValue(PREFIX_SUBJECT);
+        if (subjects.isPresent()) {
+            predicates.add(parseSubjects(subjects.get()));
+        }
+        Optional<String> lessonDays = argMultimap.getValue(PREFIX_LESSON_TIME);
+        if (lessonDays.isPresent()) {
+            predicates.add(parseLessonDays(lessonDays.get()));
+        }
+        Optional<String> pendingTasks = argMultimap.getValue(PREFIX_PENDING_TASKS);
+        if (pendingTasks.isPresent()) {
+            if (!pendingTasks.get().isEmpty()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            }
+            predicates.add(new TaskListNotEmptyPredicate());
+        }
+        Optional<String> words = argMultimap.getValue(PREFIX_KEYWORD);
+        if (words.isPresent()) {
+            predicates.add(parseWords(words.get()));
+        }
 
-        if ((isByName && isByLevel) || (isByName && isBySubject)
-                || (isByLevel && isBySubject) || (!isByName && !isByLevel && !isBySubject)
-                || !argMultimap.getPreamble().isEmpty()) {
+        if (predicates.isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
+        if (predicates.size() == 1) {
+            return new FindCommand(predicates.get(0));
+        }
+        return new FindCommand(new CombinedPredicate(predicates, !isMatchAny));
+    }
 
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_LEVEL, PREFIX_SUBJECT);
+    private static NameContainsKeywordsPredicate parseNames(String toFind) throws ParseException {
+        // Code below conducts checks usually done in parse,
+        // but ParserUtil is not used as Name objects are not needed.
+        requireNonNull(toFind);
+        String[] trimmedNames = toFind.trim().split("\\s+");
+        if (Arrays.stream(trimmedNames).anyMatch(name -> !Name.isValidName(name))) {
+            throw new ParseException(Name.MESSAGE_CONSTRAINTS);
+        }
 
-        if (isByName) {
-            String toFind = argMultimap.getValue(PREFIX_NAME).get();
+        return new NameContainsKeywordsPredicate(Arrays.asList(trimmedNames));
+    }
 
-            // Code below conducts checks usually done in parse,
-            // but ParserUtil is not used as Name objects are not needed.
-            requireNonNull(toFind);
-            String[] trimmedNames = toFind.trim().split("\\s+");
-            if (Arrays.stream(trimmedNames).anyMatch(name -> !Name.isValidName(name))) {
-                throw new ParseException(Name.MESSAGE_CONSTRAINTS);
-            }
+    private static LevelContainsKeywordsPredicate parseLevel(String toFind) throws ParseException {
+        // Code below conducts checks usually done in parse,
+        // but ParserUtil is not used as Level object is not needed.
+        requireNonNull(toFind);
+        String trimmedLevel = toFind.trim();
+        if (!Level.isValidLevelName(trimmedLevel)) {
+            throw new ParseException(Level.MESSAGE_CONSTRAINTS);
+        }
 
-            return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(trimmedNames)));
-        } else if (isByLevel) {
-            String toFind = argMultimap.getValue(PREFIX_LEVEL).get();
+        // Remove spaces within and make all upper case
+        trimmedLevel = String.join(" ", trimmedLevel.split("\\s+")).toUpperCase();
 
-            // Code below conducts checks usually done in parse,
-            // but ParserUtil is not used as Level object is not needed.
-            requireNonNull(toFind);
-            String trimmedLevel = toFind.trim();
-            if (!Level.isValidLevelName(trimmedLevel)) {
-                throw new ParseException(Level.MESSAGE_CONSTRAINTS);
-            }
+        String[] trimmedLevels = {trimmedLevel};
+        return new LevelContainsKeywordsPredicate(Arrays.asList(trimmedLevels));
+    }
 
-            // Remove spaces within and make all upper case
-            trimmedLevel = String.join(" ", trimmedLevel.split("\\s+")).toUpperCase();
+    private static SubjectContainsKeywordsPredicate parseSubjects(String toFind) throws ParseException {
+        // Code below conducts checks usually done in parse,
+        // but ParserUtil is not used as Subject objects are not needed.
+        requireNonNull(toFind);
+        String[] trimmedSubjects = toFind.trim().split("\\s+");
+        if (Arrays.stream(trimmedSubjects).anyMatch(subject -> !Subject.isValidSubjectName(subject))) {
+            throw new ParseException(Subject.MESSAGE_CONSTRAINTS);
+        }
 
-            String[] trimmedLevels = {trimmedLevel};
-            return new FindCommand(new LevelContainsKeywordsPredicate(Arrays.asList(trimmedLevels)));
-        } else {
-            String toFind = argMultimap.getValue(PREFIX_SUBJECT).get();
+        return new SubjectContainsKeywordsPredicate(Arrays.asList(trimmedSubjects));
+    }
 
-            // Code below conducts checks usually done in parse,
-            // but ParserUtil is not used as Subject objects are not needed.
-            requireNonNull(toFind);
-            String[] trimmedSubjects = toFind.trim().split("\\s+");
-            if (Arrays.stream(trimmedSubjects).anyMatch(subject -> !Subject.isValidSubjectName(subject))) {
-                throw new ParseException(Subject.MESSAGE_CONSTRAINTS);
-            }
+    private static TextContainsKeywordsPredicate parseWords(String toFind) throws ParseException {
+        requireNonNull(toFind);
+        List<String> words = StringUtil.toWords(toFind).stream().distinct().toList();
+        if (words.isEmpty()) {
+            throw new ParseException(MESSAGE_EMPTY_KEYWORDS);
+        }
 
-            return new FindCommand(new SubjectContainsKeywordsPredicate(Arrays.asList(trimmedSubjects)));
+        return new TextContainsKeywordsPredicate(words);
+    }
+
+    private static LessonDayContainsKeywordsPredicate parseLessonDays(String toFind) throws ParseException {
+        requireNonNull(toFind);
+        String[] trimmedDays = toFind.trim().split("\\s+");
+        if (Arrays.stream(trimmedDays).anyMatch(day -> !LessonTime.isValidLessonDay(day))) {
+            throw new ParseException(LessonTime.MESSAGE_DAY_CONSTRAINTS);
         }
+
+        return new LessonDayContainsKeywordsPredicate(Arrays.asList(trimmedDays));
     }
 }
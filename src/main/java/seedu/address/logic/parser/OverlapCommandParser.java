@@ -0,0 +1,36 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LESSON_TIME;
+import static seedu.address.logic.parser.ParserUtil.arePrefixesPresent;
+
+import seedu.address.logic.commands.OverlapCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.student.LessonTime;
+import seedu.address.model.student.predicate.LessonTimeOverlapsPredicate;
+
+/**
+ * Parses input arguments and creates a new {@code OverlapCommand} object
+ */
+public class OverlapCommandParser implements Parser<OverlapCommand> {
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code OverlapCommand}
+     * and returns an {@code OverlapCommand} object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public OverlapCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_LESSON_TIME);
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_LESSON_TIME) || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, OverlapCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_LESSON_TIME);
+
+        LessonTime lessonTime = ParserUtil.parseLessonTime(argMultimap.getValue(PREFIX_LESSON_TIME).get());
+
+        return new OverlapCommand(new LessonTimeOverlapsPredicate(lessonTime));
+    }
+}
@@ -147,7 +147,7 @@ public class ParserUtil {
         if (!Level.isValidLevelName(trimmedLevel)) {
             throw new ParseException(Level.MESSAGE_CONSTRAINTS);
         }
-        return new Level(trimmedLevel);
+        return Level.of(trimmedLevel);
     }
 
     /**
@@ -162,7 +162,7 @@ public class ParserUtil {
         if (!Subject.isValidSubjectName(trimmedSubject)) {
             throw new ParseException(Subject.MESSAGE_CONSTRAINTS);
         }
-        return new Subject(trimmedSubject);
+        return Subject.of(trimmedSubject);
     }
 
     /**
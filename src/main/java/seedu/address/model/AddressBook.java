@@ -1,13 +1,24 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.student.LessonTime;
+import seedu.address.model.student.Level;
+import seedu.address.model.student.Name;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.Subject;
 import seedu.address.model.student.UniqueStudentList;
+import seedu.address.model.student.task.DueTask;
 
 /**
  * Wraps all data at the address-book level
@@ -67,6 +78,103 @@ public class AddressBook implements ReadOnlyAddressBook {
         return students.contains(student);
     }
 
+    /**
+     * Returns the student with the given {@code name} in the address book, if any.
+     */
+    public Optional<Student> findStudent(Name name) {
+        requireNonNull(name);
+        return students.find(name);
+    }
+
+    /**
+     * Returns the students in the address book whose name contains any of {@code tokens} as a whole word,
+     * ignoring case. The returned set compares students by identity.
+     */
+    public Set<Student> findStudentsByNameTokens(Collection<String> tokens) {
+        requireNonNull(tokens);
+        return students.findByNameTokens(tokens);
+    }
+
+    /**
+     * Returns the students in the address book taking any of {@code subjects}.
+     * The returned set compares students by identity.
+     */
+    public Set<Student> findStudentsBySubjects(Collection<Subject> subjects) {
+        requireNonNull(subjects);
+        return students.findBySubjects(Subject.toMask(subjects));
+    }
+
+    /**
+     * Returns the students in the address book with the given {@code level}.
+     * The returned set is an unmodifiable view that compares students by identity.
+     */
+    public Set<Student> findStudentsByLevel(Level level) {
+        requireNonNull(level);
+        return students.findByLevel(level);
+    }
+
+    /**
+     * Returns the students in the address book with a lesson overlapping {@code lessonTime}.
+     * The returned set compares students by identity.
+     */
+    public Set<Student> findStudentsByLessonTime(LessonTime lessonTime) {
+        requireNonNull(lessonTime);
+        return students.findByLessonTime(lessonTime);
+    }
+
+    /**
+     * Returns the students in the address book with a lesson on any of the days in {@code lessonDayMask}, which has
+     * the bit at the ordinal of each day set. The returned set compares students by identity.
+     */
+    public Set<Student> findStudentsByLessonDays(int lessonDayMask) {
+        return students.findByLessonDays(lessonDayMask);
+    }
+
+    /**
+     * Returns the students in the address book with at least one task.
+     * The returned set compares students by identity.
+     */
+    public Set<Student> findStudentsWithTasks() {
+        return students.findWithTasks();
+    }
+
+    /**
+     * Returns up to {@code limit} tasks in the address book that are due on or after {@code date}, ordered by
+     * deadline.
+     */
+    public List<DueTask> findTasksDueFrom(LocalDate date, int limit) {
+        requireNonNull(date);
+        return students.findTasksDueFrom(date, limit);
+    }
+
+    /**
+     * Returns the students in the address book with a task due on or after {@code from} and on or before {@code to}.
+     * The returned set compares students by identity.
+     */
+    public Set<Student> findStudentsWithTasksDueBetween(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        return students.findWithTasksDueBetween(from, to);
+    }
+
+    /**
+     * Returns the students in the address book whose note or task descriptions contain any of {@code words}, ignoring
+     * case, each mapped to the number of times those words occur in them. The returned map compares students by
+     * identity.
+     */
+    public Map<Student, Integer> findStudentsByWords(Collection<String> words) {
+        requireNonNull(words);
+        return students.findByWords(words);
+    }
+
+    /**
+     * Returns up to {@code limit} names of students in the address book within {@code maxDistance} edits of
+     * {@code name}, ignoring case, closest first.
+     */
+    public List<Name> findSimilarNames(Name name, int maxDistance, int limit) {
+        requireNonNull(name);
+        return students.findSimilarNames(name, maxDistance, limit);
+    }
+
     /**
      * Adds a student to the address book.
      * The student must not already exist in the address book.
@@ -109,6 +217,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         return students.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getVersion() {
+        return students.getVersion();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -1,12 +1,24 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.student.LessonTime;
+import seedu.address.model.student.Level;
 import seedu.address.model.student.Name;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.Subject;
+import seedu.address.model.student.predicate.QueryPredicate;
+import seedu.address.model.student.task.DueTask;
 
 /**
  * The API of the Model component.
@@ -82,14 +94,129 @@ public interface Model {
     ObservableList<Student> getFilteredStudentList();
 
     /**
-     * Updates the filter of the filtered student list to filter by the given {@code predicate}.
+     * Updates the filter of the filtered student list to filter by the given {@code predicate}, listing the students
+     * in the order of the address book.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredStudentList(Predicate<Student> predicate);
 
+    /**
+     * Updates the filter of the filtered student list to filter by the given {@code predicate}, listing the students
+     * in the order given by {@code comparator}. Students that {@code comparator} considers equal are listed in the
+     * order of the address book.
+     * @throws NullPointerException if {@code predicate} or {@code comparator} is null.
+     */
+    void updateFilteredStudentList(Predicate<Student> predicate, Comparator<Student> comparator);
+
     /**
      * Returns the student with the given {@code Name} from the address book.
      * If no such student exists, returns null.
      */
     Student getStudentByName(Name name);
+
+    /**
+     * Returns the student with the given {@code Name} from the address book, regardless of the current filter.
+     * Returns {@code Optional#empty()} if no such student exists.
+     */
+    Optional<Student> findStudent(Name name);
+
+    /**
+     * Returns up to {@code limit} names of students in the address book within two edits of {@code name}, ignoring
+     * case, regardless of the current filter. The closest names come first, and names equally close are sorted
+     * alphabetically.
+     */
+    List<Name> findSimilarNames(Name name, int limit);
+
+    /**
+     * Returns the students in the address book whose name contains any of {@code tokens} as a whole word,
+     * ignoring case, regardless of the current filter. The returned set compares students by identity.
+     */
+    Set<Student> findStudentsByNameTokens(Collection<String> tokens);
+
+    /**
+     * Returns the students in the address book taking any of {@code subjects}, regardless of the current filter.
+     * The returned set compares students by identity.
+     */
+    Set<Student> findStudentsBySubjects(Collection<Subject> subjects);
+
+    /**
+     * Returns the students in the address book with the given {@code level}, regardless of the current filter.
+     * The returned set is an unmodifiable view that compares students by identity, so its size is the number of
+     * students with that level.
+     */
+    Set<Student> findStudentsByLevel(Level level);
+
+    /**
+     * Returns the students in the address book with a lesson overlapping {@code lessonTime}, regardless of the
+     * current filter. The returned set compares students by identity.
+     */
+    Set<Student> findStudentsByLessonTime(LessonTime lessonTime);
+
+    /**
+     * Returns the other students in the address book with a lesson overlapping each of {@code lessonTimes} of
+     * {@code student}, regardless of the current filter. Each lesson time is mapped to the students it clashes with,
+     * ordered by name, and lesson times that clash with no other student are left out. The returned map iterates
+     * over the lesson times in the order of {@code lessonTimes}.
+     */
+    Map<LessonTime, List<Student>> findLessonClashes(Student student, Collection<LessonTime> lessonTimes);
+
+    /**
+     * Returns the students in the address book with a lesson on any of the days in {@code lessonDayMask}, which has
+     * the bit at the ordinal of each day set, regardless of the current filter.
+     * The returned set compares students by identity.
+     */
+    Set<Student> findStudentsByLessonDays(int lessonDayMask);
+
+    /**
+     * Returns the students in the address book with at least one task, regardless of the current filter.
+     * The returned set compares students by identity.
+     */
+    Set<Student> findStudentsWithTasks();
+
+    /**
+     * Returns up to {@code limit} tasks in the address book that are due on or after {@code date}, ordered by
+     * deadline, regardless of the current filter.
+     */
+    List<DueTask> findTasksDueFrom(LocalDate date, int limit);
+
+    /**
+     * Returns the students in the address book with a task due on or after {@code from} and on or before {@code to},
+     * regardless of the current filter. The returned set compares students by identity.
+     */
+    Set<Student> findStudentsWithTasksDueBetween(LocalDate from, LocalDate to);
+
+    /**
+     * Returns the students in the address book whose note or task descriptions contain any of {@code words}, ignoring
+     * case, regardless of the current filter. Each student is mapped to the number of times those words occur in
+     * them. The returned map compares students by identity.
+     */
+    Map<Student, Integer> findStudentsByWords(Collection<String> words);
+
+    /**
+     * Returns the students in the address book accepted by {@code query}, regardless of the current filter. The
+     * results of recent queries are cached until the address book is modified, so repeating a query does not look
+     * up or test the students again. The returned set compares students by identity, and must not be modified.
+     */
+    Set<Student> findMatchingStudents(QueryPredicate query);
+
+    /**
+     * Returns the students in the address book accepted by {@code query} if they are cached or can be looked up in
+     * the indexes kept by the model, regardless of the current filter, or an empty {@code Optional} if every student
+     * has to be tested instead. Students looked up are cached like those of
+     * {@link #findMatchingStudents(QueryPredicate)}, so that a query combining others reuses their results.
+     * The returned set compares students by identity, and must not be modified.
+     */
+    Optional<Set<Student>> findIndexedStudents(QueryPredicate query);
+
+    /**
+     * Returns the number of calls to {@link #findMatchingStudents(QueryPredicate)} and
+     * {@link #findIndexedStudents(QueryPredicate)} answered from the cache.
+     */
+    long getQueryCacheHitCount();
+
+    /**
+     * Returns the number of calls to {@link #findMatchingStudents(QueryPredicate)} and
+     * {@link #findIndexedStudents(QueryPredicate)} that had to find the students.
+     */
+    long getQueryCacheMissCount();
 }
@@ -4,15 +4,31 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.student.LessonTime;
+import seedu.address.model.student.Level;
 import seedu.address.model.student.Name;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.Subject;
+import seedu.address.model.student.predicate.QueryPredicate;
+import seedu.address.model.student.task.DueTask;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -20,9 +36,14 @@ import seedu.address.model.student.Student;
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
+    /** The greatest number of edits between a name and the similar names found for it. */
+    private static final int SIMILAR_NAME_MAX_DISTANCE = 2;
+
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Student> filteredStudents;
+    private final SortedList<Student> sortedStudents;
+    private final QueryCache queryCache = new QueryCache();
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -35,6 +56,7 @@ public class ModelManager implements Model {
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredStudents = new FilteredList<>(this.addressBook.getStudentList());
+        sortedStudents = new SortedList<>(filteredStudents);
     }
 
     public ModelManager() {
@@ -101,11 +123,119 @@ public class ModelManager implements Model {
 
     @Override
     public Student getStudentByName(Name name) {
+        return findStudent(name).orElse(null);
+    }
+
+    @Override
+    public Optional<Student> findStudent(Name name) {
         requireNonNull(name);
-        return addressBook.getStudentList().stream()
-                .filter(student -> student.getName().equals(name))
-                .findFirst()
-                .orElse(null);
+        return addressBook.findStudent(name);
+    }
+
+    @Override
+    public List<Name> findSimilarNames(Name name, int limit) {
+        requireNonNull(name);
+        return addressBook.findSimilarNames(name, SIMILAR_NAME_MAX_DISTANCE, limit);
+    }
+
+    @Override
+    public Set<Student> findStudentsByNameTokens(Collection<String> tokens) {
+        requireNonNull(tokens);
+        return addressBook.findStudentsByNameTokens(tokens);
+    }
+
+    @Override
+    public Set<Student> findStudentsBySubjects(Collection<Subject> subjects) {
+        requireNonNull(subjects);
+        return addressBook.findStudentsBySubjects(subjects);
+    }
+
+    @Override
+    public Set<Student> findStudentsByLevel(Level level) {
+        requireNonNull(level);
+        return addressBook.findStudentsByLevel(level);
+    }
+
+    @Override
+    public Set<Student> findStudentsByLessonTime(LessonTime lessonTime) {
+        requireNonNull(lessonTime);
+        return addressBook.findStudentsByLessonTime(lessonTime);
+    }
+
+    @Override
+    public Map<LessonTime, List<Student>> findLessonClashes(Student student, Collection<LessonTime> lessonTimes) {
+        requireAllNonNull(student, lessonTimes);
+        Map<LessonTime, List<Student>> clashes = new LinkedHashMap<>();
+        for (LessonTime lessonTime : lessonTimes) {
+            List<Student> clashingStudents = addressBook.findStudentsByLessonTime(lessonTime).stream()
+                    .filter(other -> !other.isSameStudent(student))
+                    .sorted(Comparator.comparing(other -> other.getName().fullName))
+                    .toList();
+            if (!clashingStudents.isEmpty()) {
+                clashes.put(lessonTime, clashingStudents);
+            }
+        }
+        return clashes;
+    }
+
+    @Override
+    public Set<Student> findStudentsByLessonDays(int lessonDayMask) {
+        return addressBook.findStudentsByLessonDays(lessonDayMask);
+    }
+
+    @Override
+    public Set<Student> findStudentsWithTasks() {
+        return addressBook.findStudentsWithTasks();
+    }
+
+    @Override
+    public List<DueTask> findTasksDueFrom(LocalDate date, int limit) {
+        requireNonNull(date);
+        return addressBook.findTasksDueFrom(date, limit);
+    }
+
+    @Override
+    public Set<Student> findStudentsWithTasksDueBetween(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        return addressBook.findStudentsWithTasksDueBetween(from, to);
+    }
+
+    @Override
+    public Map<Student, Integer> findStudentsByWords(Collection<String> words) {
+        requireNonNull(words);
+        return addressBook.findStudentsByWords(words);
+    }
+
+    @Override
+    public Set<Student> findMatchingStudents(QueryPredicate query) {
+        requireNonNull(query);
+        return queryCache.get(query, addressBook.getVersion(), () -> query.findMatches(this)
+                .orElseGet(() -> testAllStudents(query)));
+    }
+
+    @Override
+    public Optional<Set<Student>> findIndexedStudents(QueryPredicate query) {
+        requireNonNull(query);
+        return queryCache.find(query, addressBook.getVersion(), () -> query.findMatches(this));
+    }
+
+    /**
+     * Returns the students in the address book accepted by {@code query}, testing every student.
+     */
+    private Set<Student> testAllStudents(QueryPredicate query) {
+        Set<Student> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        addressBook.getStudentList().stream().filter(query).forEach(matches::add);
+        return matches;
+    }
+
+    @Override
+    public long getQueryCacheHitCount() {
+        return queryCache.getHitCount();
+    }
+
+    @Override
+    public long getQueryCacheMissCount() {
+        return queryCache.getMissCount();
     }
 
     @Override
@@ -128,13 +258,44 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Student> getFilteredStudentList() {
-        return filteredStudents;
+        return sortedStudents;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * The filtered list keeps itself up to date by testing only the students that are added or changed, so if
+     * {@code predicate} is equal to the current filter, the list is left as it is instead of testing every student
+     * again and replacing the whole list in the UI.
+     */
     @Override
     public void updateFilteredStudentList(Predicate<Student> predicate) {
         requireNonNull(predicate);
-        filteredStudents.setPredicate(predicate);
+        sortedStudents.setComparator(null);
+        setFilter(predicate);
+    }
+
+    @Override
+    public void updateFilteredStudentList(Predicate<Student> predicate, Comparator<Student> comparator) {
+        requireAllNonNull(predicate, comparator);
+        setFilter(predicate);
+        sortedStudents.setComparator(comparator);
+    }
+
+    private void setFilter(Predicate<Student> predicate) {
+        if (isCurrentFilter(predicate)) {
+            return;
+        }
+        filteredStudents.setPredicate(predicate == PREDICATE_SHOW_ALL_STUDENTS ? null : predicate);
+    }
+
+    /**
+     * Returns true if the filtered list is currently filtered by {@code predicate}. A filtered list without a
+     * predicate shows all students.
+     */
+    private boolean isCurrentFilter(Predicate<Student> predicate) {
+        Predicate<? super Student> currentPredicate = filteredStudents.getPredicate();
+        return predicate == PREDICATE_SHOW_ALL_STUDENTS ? currentPredicate == null : predicate.equals(currentPredicate);
     }
 
     @Override
@@ -151,7 +312,7 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredStudents.equals(otherModelManager.filteredStudents);
+                && sortedStudents.equals(otherModelManager.sortedStudents);
     }
 
 }
@@ -0,0 +1,103 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import seedu.address.model.student.Student;
+import seedu.address.model.student.predicate.QueryPredicate;
+
+/**
+ * A bounded cache of the students matching recent queries, so that repeating a query does not examine the students
+ * of the address book again.
+ *
+ * Queries are looked up by equality, and each result is kept together with the version of the address book it was
+ * found in. A result found in an older version is never returned, and is replaced by the next lookup of its query.
+ * Once the cache is full, the least recently used query is evicted.
+ */
+class QueryCache {
+
+    public static final int DEFAULT_CAPACITY = 16;
+
+    private final Map<QueryPredicate, CachedResult> results;
+    private long hitCount;
+    private long missCount;
+
+    /**
+     * Creates a cache holding the results of up to {@code capacity} queries.
+     */
+    QueryCache(int capacity) {
+        checkArgument(capacity > 0, "Capacity must be positive");
+        results = new LinkedHashMap<>(capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<QueryPredicate, CachedResult> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    QueryCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Returns the students matching {@code query} in the given {@code version} of the address book, using
+     * {@code finder} to find them if they are not cached for that version.
+     */
+    Set<Student> get(QueryPredicate query, long version, Supplier<Set<Student>> finder) {
+        requireAllNonNull(query, finder);
+        return find(query, version, () -> Optional.of(finder.get())).get();
+    }
+
+    /**
+     * Returns the students matching {@code query} in the given {@code version} of the address book, using
+     * {@code finder} to find them if they are not cached for that version. Nothing is cached if {@code finder} does
+     * not find them.
+     */
+    Optional<Set<Student>> find(QueryPredicate query, long version, Supplier<Optional<Set<Student>>> finder) {
+        requireAllNonNull(query, finder);
+        CachedResult cachedResult = results.get(query);
+        if (cachedResult != null && cachedResult.version == version) {
+            hitCount++;
+            return Optional.of(cachedResult.matches);
+        }
+
+        missCount++;
+        Optional<Set<Student>> matches = finder.get();
+        matches.ifPresent(found -> results.put(query, new CachedResult(version, found)));
+        return matches;
+    }
+
+    /**
+     * Returns the number of queries cached, including those found in an older version of the address book.
+     */
+    int size() {
+        return results.size();
+    }
+
+    long getHitCount() {
+        return hitCount;
+    }
+
+    long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * The students matching a query in a version of the address book.
+     */
+    private static class CachedResult {
+        private final long version;
+        private final Set<Student> matches;
+
+        CachedResult(long version, Set<Student> matches) {
+            this.version = version;
+            this.matches = matches;
+        }
+    }
+}
@@ -14,4 +14,10 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Student> getStudentList();
 
+    /**
+     * Returns a number that changes whenever the contents of this address book change.
+     * Two calls returning the same number mean that nothing has been modified in between.
+     */
+    long getVersion();
+
 }
@@ -0,0 +1,76 @@
+package seedu.address.model.student;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.model.student.task.DueTask;
+import seedu.address.model.student.task.Task;
+
+/**
+ * An index of the tasks of all students, sorted by their deadline, for finding the tasks due next.
+ *
+ * Tasks due on the same day are kept in the order they were added to the index.
+ */
+class DeadlineIndex implements StudentIndex {
+
+    private final NavigableMap<LocalDate, List<DueTask>> tasksByDeadline = new TreeMap<>();
+
+    @Override
+    public void add(Student student) {
+        for (Task task : student.getTaskList()) {
+            tasksByDeadline.computeIfAbsent(task.getTaskDeadline().taskDeadline, unused -> new ArrayList<>())
+                    .add(new DueTask(student, task));
+        }
+    }
+
+    @Override
+    public void remove(Student student) {
+        for (Task task : student.getTaskList()) {
+            LocalDate deadline = task.getTaskDeadline().taskDeadline;
+            List<DueTask> dueTasks = tasksByDeadline.get(deadline);
+            dueTasks.removeIf(dueTask -> dueTask.getStudent() == student && dueTask.getTask().equals(task));
+            if (dueTasks.isEmpty()) {
+                tasksByDeadline.remove(deadline);
+            }
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} tasks due on or after {@code date}, ordered by deadline.
+     */
+    List<DueTask> findDueFrom(LocalDate date, int limit) {
+        List<DueTask> dueTasks = new ArrayList<>();
+        for (List<DueTask> tasksOnDay : tasksByDeadline.tailMap(date, true).values()) {
+            for (DueTask dueTask : tasksOnDay) {
+                if (dueTasks.size() == limit) {
+                    return dueTasks;
+                }
+                dueTasks.add(dueTask);
+            }
+        }
+        return dueTasks;
+    }
+
+    /**
+     * Returns the students with a task due on or after {@code from} and on or before {@code to}.
+     * The returned set compares students by identity.
+     */
+    Set<Student> findStudentsDueBetween(LocalDate from, LocalDate to) {
+        Set<Student> students = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (from.isAfter(to)) {
+            return students;
+        }
+        for (List<DueTask> tasksOnDay : tasksByDeadline.subMap(from, true, to, true).values()) {
+            for (DueTask dueTask : tasksOnDay) {
+                students.add(dueTask.getStudent());
+            }
+        }
+        return students;
+    }
+}
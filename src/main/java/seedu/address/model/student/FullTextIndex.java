@@ -0,0 +1,68 @@
+package seedu.address.model.student;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.student.task.Task;
+
+/**
+ * An inverted index from each word in the notes and task descriptions of students to the students using it, for
+ * finding students by the words in their notes and tasks. Each student is stored with the number of times the word
+ * occurs, so that matches can be ranked by term frequency.
+ *
+ * Words are split and case-folded by {@link StringUtil#toWords(String)}.
+ */
+class FullTextIndex implements StudentIndex {
+
+    private final Map<String, Map<Student, Integer>> countsByWord = new HashMap<>();
+
+    @Override
+    public void add(Student student) {
+        countWords(student).forEach((word, count) ->
+                countsByWord.computeIfAbsent(word, unused -> new IdentityHashMap<>()).put(student, count));
+    }
+
+    @Override
+    public void remove(Student student) {
+        for (String word : countWords(student).keySet()) {
+            countsByWord.computeIfPresent(word, (unused, counts) -> {
+                counts.remove(student);
+                return counts.isEmpty() ? null : counts;
+            });
+        }
+    }
+
+    /**
+     * Returns the students using any of {@code words}, each mapped to the total number of times they use those words.
+     * The returned map compares students by identity.
+     */
+    Map<Student, Integer> find(Collection<String> words) {
+        Set<String> distinctWords = new HashSet<>();
+        words.forEach(word -> distinctWords.addAll(StringUtil.toWords(word)));
+
+        Map<Student, Integer> totalCounts = new IdentityHashMap<>();
+        for (String word : distinctWords) {
+            countsByWord.getOrDefault(word, Map.of()).forEach((student, count) ->
+                    totalCounts.merge(student, count, Integer::sum));
+        }
+        return totalCounts;
+    }
+
+    /**
+     * Returns the number of times each word occurs in the note and task descriptions of {@code student}.
+     */
+    private static Map<String, Integer> countWords(Student student) {
+        Map<String, Integer> counts = new HashMap<>();
+        StringUtil.toWords(student.getNote().value).forEach(word -> counts.merge(word, 1, Integer::sum));
+        for (Task task : student.getTaskList()) {
+            StringUtil.toWords(task.getTaskDescription().taskDescription)
+                    .forEach(word -> counts.merge(word, 1, Integer::sum));
+        }
+        return counts;
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model.student;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.EnumUtil.fromOrdinal;
 import static seedu.address.commons.util.EnumUtil.inEnum;
 
 import java.time.LocalTime;
@@ -12,6 +13,10 @@ import java.util.Arrays;
 /**
  * Represents a LessonTime in the address book.
  * Guarantees: immutable; value is valid as declared in {@link #isValidLessonTime(String)}
+ *
+ * The day, start and end of the lesson are packed into a single {@code int}, holding the minutes from the start of
+ * the week at which the lesson starts and ends, so that lesson times can be compared and checked for overlaps without
+ * allocating or looking up days by name.
  */
 public class LessonTime implements Comparable<LessonTime> {
 
@@ -23,10 +28,16 @@ public class LessonTime implements Comparable<LessonTime> {
             + "\n" + "DAY is in: " + Arrays.toString(Days.values()) + ";\n"
             + "STARTTIME and ENDTIME are in the format HH:MM;\n"
             + "ENDTIME is later than STARTTIME";
+    public static final String MESSAGE_DAY_CONSTRAINTS = "Lesson day should be in: " + Arrays.toString(Days.values());
     private static final DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HH:mm");
-    private final String lessonDay;
-    private final LocalTime lessonStart;
-    private final LocalTime lessonEnd;
+    private static final Days[] DAYS = Days.values();
+    private static final int MINUTES_PER_HOUR = 60;
+    private static final int MINUTES_PER_DAY = 24 * MINUTES_PER_HOUR;
+    private static final int END_BITS = 16;
+    private static final int END_MASK = (1 << END_BITS) - 1;
+
+    /** The minute of the week the lesson starts at, in the upper bits, and the minute it ends at, in the lower bits. */
+    private final int packedMinutes;
 
     /**
      * Constructs a {@code LessonTime}
@@ -37,21 +48,51 @@ public class LessonTime implements Comparable<LessonTime> {
         checkArgument(isValidLessonTime(lessonTime), MESSAGE_CONSTRAINTS);
 
         String[] segments = lessonTime.split("-");
-        this.lessonDay = segments[0].toUpperCase();
-        this.lessonStart = LocalTime.parse(segments[1], timeFormatter);
-        this.lessonEnd = LocalTime.parse(segments[2], timeFormatter);
+        this.packedMinutes = pack(Days.valueOf(segments[0].toUpperCase()).ordinal(),
+                toMinuteOfDay(LocalTime.parse(segments[1], timeFormatter)),
+                toMinuteOfDay(LocalTime.parse(segments[2], timeFormatter)));
+    }
+
+    private LessonTime(Days lessonDay, LocalTime lessonStart, LocalTime lessonEnd) {
+        requireNonNull(lessonStart);
+        requireNonNull(lessonEnd);
+        checkArgument(lessonEnd.isAfter(lessonStart), MESSAGE_CONSTRAINTS);
+        this.packedMinutes = pack(lessonDay.ordinal(), toMinuteOfDay(lessonStart), toMinuteOfDay(lessonEnd));
+    }
+
+    /**
+     * Returns the {@code LessonTime} on the day with the given ordinal, as returned by
+     * {@link #getLessonDayOrdinal()}, between the given times.
+     *
+     * @throws IllegalArgumentException if no day has the given ordinal, or {@code lessonEnd} is not after
+     *     {@code lessonStart}.
+     */
+    public static LessonTime of(int lessonDayOrdinal, LocalTime lessonStart, LocalTime lessonEnd) {
+        return new LessonTime(fromOrdinal(lessonDayOrdinal, Days.class), lessonStart, lessonEnd);
     }
 
     public String getLessonDay() {
-        return lessonDay;
+        return DAYS[getLessonDayOrdinal()].name();
+    }
+
+    public int getLessonDayOrdinal() {
+        return getStartMinuteOfWeek() / MINUTES_PER_DAY;
     }
 
     public LocalTime getLessonStart() {
-        return lessonStart;
+        return toLocalTime(getStartMinuteOfDay());
     }
 
     public LocalTime getLessonEnd() {
-        return lessonEnd;
+        return toLocalTime(getEndMinuteOfDay());
+    }
+
+    public int getStartMinuteOfDay() {
+        return getStartMinuteOfWeek() % MINUTES_PER_DAY;
+    }
+
+    public int getEndMinuteOfDay() {
+        return getEndMinuteOfWeek() % MINUTES_PER_DAY;
     }
 
     /**
@@ -78,15 +119,42 @@ public class LessonTime implements Comparable<LessonTime> {
         return isValid;
     }
 
+    /**
+     * Returns true if given string is a valid lesson day, ignoring case.
+     */
+    public static boolean isValidLessonDay(String test) {
+        return inEnum(test, Days.class);
+    }
+
+    /**
+     * Returns the ordinal of the lesson day named {@code lessonDay}, ignoring case, as returned by
+     * {@link #getLessonDayOrdinal()}.
+     *
+     * @throws IllegalArgumentException if {@code lessonDay} is not a valid lesson day.
+     */
+    public static int toLessonDayOrdinal(String lessonDay) {
+        requireNonNull(lessonDay);
+        checkArgument(isValidLessonDay(lessonDay), MESSAGE_DAY_CONSTRAINTS);
+        return Days.valueOf(lessonDay.toUpperCase()).ordinal();
+    }
+
+    /**
+     * Returns true if this lesson time and {@code other} are on the same day and share some time. Lesson times that
+     * only touch, where one ends when the other starts, do not overlap.
+     */
+    public boolean overlaps(LessonTime other) {
+        // lessons on different days cannot overlap, as every lesson ends on the day it starts
+        return getStartMinuteOfWeek() < other.getEndMinuteOfWeek()
+                && other.getStartMinuteOfWeek() < getEndMinuteOfWeek();
+    }
+
     /**
      * Returns true if this lesson time overlaps with other lesson time.
      */
     public boolean canMerge(LessonTime other) {
-        return this.equals(other)
-                || lessonDay.equals(other.getLessonDay())
-                && (lessonEnd.equals(other.getLessonStart())
-                || (!lessonEnd.isBefore(other.getLessonStart()) && !lessonStart.isAfter(other.lessonEnd))
-                || lessonStart.equals(other.lessonEnd));
+        // unlike overlaps, lesson times that only touch can be merged
+        return getStartMinuteOfWeek() <= other.getEndMinuteOfWeek()
+                && other.getStartMinuteOfWeek() <= getEndMinuteOfWeek();
     }
 
     @Override
@@ -100,40 +168,48 @@ public class LessonTime implements Comparable<LessonTime> {
         }
 
         LessonTime otherLessonTime = (LessonTime) other;
-        return lessonDay.equals(otherLessonTime.getLessonDay())
-                && lessonStart.equals(otherLessonTime.getLessonStart())
-                && lessonEnd.equals(otherLessonTime.getLessonEnd());
+        return packedMinutes == otherLessonTime.packedMinutes;
     }
 
+    /**
+     * Compares lesson times by their day, then their start time, then their end time. Lesson times on different days
+     * compare by the difference between their days.
+     */
     @Override
     public int compareTo(LessonTime o) {
-
-        if (this.equals(o)) {
-            return 0;
-        }
-
-        int dayComparison = Days.valueOf(this.lessonDay).ordinal() - Days.valueOf(o.lessonDay).ordinal();
-        if (dayComparison != 0) {
-            return dayComparison;
-        }
-
-        // If the days are the same, compare the start times
-        int startTimeComparison = this.lessonStart.compareTo(o.lessonStart);
-        if (startTimeComparison != 0) {
-            return startTimeComparison;
-        }
-
-        // If both the day and start time are the same, compare the end times
-        return this.lessonEnd.compareTo(o.lessonEnd);
+        int dayComparison = getLessonDayOrdinal() - o.getLessonDayOrdinal();
+        return dayComparison != 0 ? dayComparison : Integer.compare(packedMinutes, o.packedMinutes);
     }
 
     @Override
     public int hashCode() {
-        return lessonDay.hashCode() * lessonStart.hashCode() * lessonEnd.hashCode();
+        return packedMinutes;
     }
 
     @Override
     public String toString() {
-        return lessonDay + "-" + lessonStart.format(timeFormatter) + "-" + lessonEnd.format(timeFormatter);
+        return getLessonDay() + "-" + getLessonStart().format(timeFormatter) + "-"
+                + getLessonEnd().format(timeFormatter);
+    }
+
+    private int getStartMinuteOfWeek() {
+        return packedMinutes >>> END_BITS;
+    }
+
+    private int getEndMinuteOfWeek() {
+        return packedMinutes & END_MASK;
+    }
+
+    private static int pack(int lessonDayOrdinal, int startMinuteOfDay, int endMinuteOfDay) {
+        int startOfDay = lessonDayOrdinal * MINUTES_PER_DAY;
+        return (startOfDay + startMinuteOfDay) << END_BITS | (startOfDay + endMinuteOfDay);
+    }
+
+    private static int toMinuteOfDay(LocalTime time) {
+        return time.getHour() * MINUTES_PER_HOUR + time.getMinute();
+    }
+
+    private static LocalTime toLocalTime(int minuteOfDay) {
+        return LocalTime.of(minuteOfDay / MINUTES_PER_HOUR, minuteOfDay % MINUTES_PER_HOUR);
     }
 }
@@ -0,0 +1,108 @@
+package seedu.address.model.student;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An index of the lesson times of students, for finding the students with a lesson overlapping a given lesson time.
+ *
+ * The lessons of each day are sorted by their start time, and the number of lessons of each length is counted. A
+ * lesson overlapping a given lesson time must start before the given lesson ends, and cannot start earlier than the
+ * longest lesson of that day before the given lesson starts, so only the lessons starting in between are examined.
+ */
+class LessonTimeIndex implements StudentIndex {
+
+    private final List<DayIndex> dayIndexes = new ArrayList<>();
+
+    LessonTimeIndex() {
+        for (int i = 0; i < LessonTime.Days.values().length; i++) {
+            dayIndexes.add(new DayIndex());
+        }
+    }
+
+    @Override
+    public void add(Student student) {
+        for (LessonTime lessonTime : student.getLessonTimes()) {
+            dayIndexes.get(lessonTime.getLessonDayOrdinal()).add(lessonTime, student);
+        }
+    }
+
+    @Override
+    public void remove(Student student) {
+        for (LessonTime lessonTime : student.getLessonTimes()) {
+            dayIndexes.get(lessonTime.getLessonDayOrdinal()).remove(lessonTime, student);
+        }
+    }
+
+    /**
+     * Returns the students with a lesson overlapping {@code lessonTime}. The returned set compares students by
+     * identity.
+     */
+    Set<Student> findOverlapping(LessonTime lessonTime) {
+        return dayIndexes.get(lessonTime.getLessonDayOrdinal()).findOverlapping(lessonTime);
+    }
+
+    /**
+     * The lessons on one day of the week.
+     */
+    private static class DayIndex {
+        private final NavigableMap<Integer, List<Lesson>> lessonsByStart = new TreeMap<>();
+        private final NavigableMap<Integer, Integer> lessonCountsByMinutes = new TreeMap<>();
+
+        void add(LessonTime lessonTime, Student student) {
+            lessonsByStart.computeIfAbsent(lessonTime.getStartMinuteOfDay(), unused -> new ArrayList<>())
+                    .add(new Lesson(lessonTime, student));
+            lessonCountsByMinutes.merge(lengthInMinutes(lessonTime), 1, Integer::sum);
+        }
+
+        void remove(LessonTime lessonTime, Student student) {
+            List<Lesson> lessons = lessonsByStart.get(lessonTime.getStartMinuteOfDay());
+            lessons.removeIf(lesson -> lesson.student == student && lesson.lessonTime.equals(lessonTime));
+            if (lessons.isEmpty()) {
+                lessonsByStart.remove(lessonTime.getStartMinuteOfDay());
+            }
+            lessonCountsByMinutes.computeIfPresent(lengthInMinutes(lessonTime), (unused, count) ->
+                    count == 1 ? null : count - 1);
+        }
+
+        Set<Student> findOverlapping(LessonTime lessonTime) {
+            Set<Student> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+            if (lessonsByStart.isEmpty()) {
+                return matches;
+            }
+
+            int earliestStart = Math.max(0, lessonTime.getStartMinuteOfDay() - lessonCountsByMinutes.lastKey());
+            for (List<Lesson> lessons
+                    : lessonsByStart.subMap(earliestStart, true, lessonTime.getEndMinuteOfDay(), false).values()) {
+                for (Lesson lesson : lessons) {
+                    if (lesson.lessonTime.overlaps(lessonTime)) {
+                        matches.add(lesson.student);
+                    }
+                }
+            }
+            return matches;
+        }
+
+        private static int lengthInMinutes(LessonTime lessonTime) {
+            return lessonTime.getEndMinuteOfDay() - lessonTime.getStartMinuteOfDay();
+        }
+    }
+
+    /**
+     * A lesson of a student.
+     */
+    private static class Lesson {
+        private final LessonTime lessonTime;
+        private final Student student;
+
+        Lesson(LessonTime lessonTime, Student student) {
+            this.lessonTime = lessonTime;
+            this.student = student;
+        }
+    }
+}
@@ -2,11 +2,13 @@ package seedu.address.model.student;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.EnumUtil.fromOrdinal;
 import static seedu.address.commons.util.EnumUtil.inEnum;
 
 /**
  * Represents a Level in the address book.
- * Guarantees: immutable; name is valid as declared in {@link #isValidLevelName(String)}
+ * Guarantees: immutable; name is valid as declared in {@link #isValidLevelName(String)}; there is a single instance
+ * of each level, obtained from {@link #of(String)}, so levels are equal only if they are the same instance.
  */
 public class Level {
 
@@ -32,19 +34,66 @@ public class Level {
             + " and Track is one of: [EXPRESS, NA, NT, IP].\n"
             + "S5 is only allowed to have the Track NA";
 
+    /** The valid levels, indexed by the ordinals of their year and track; invalid combinations are null. */
+    private static final Level[][] LEVELS = new Level[Year.values().length][Track.values().length];
+
+    static {
+        for (Year year : Year.values()) {
+            for (Track track : Track.values()) {
+                if (isValidLevelName(year + " " + track)) {
+                    LEVELS[year.ordinal()][track.ordinal()] = new Level(year, track);
+                }
+            }
+        }
+    }
+
+    /** The level of a student who has not been given one. */
+    public static final Level NONE = LEVELS[Year.NONE.ordinal()][Track.NONE.ordinal()];
+
     public final String levelName;
+    private final Year year;
+    private final Track track;
+
+    private Level(Year year, Track track) {
+        this.year = year;
+        this.track = track;
+        this.levelName = year + " " + track;
+    }
 
     /**
-     * Constructs a {@code Level}.
+     * Returns the {@code Level} with the given name, ignoring case and the spacing between its year and track.
      *
      * @param levelName A valid Level name.
-     *
+     * @throws NullPointerException if levelName is null.
+     * @throws IllegalArgumentException if levelName is invalid.
      */
-    public Level(String levelName) {
+    public static Level of(String levelName) {
         requireNonNull(levelName);
         checkArgument(isValidLevelName(levelName), MESSAGE_CONSTRAINTS);
 
-        this.levelName = String.join(" ", levelName.split("\\s+")).toUpperCase();
+        String[] parts = levelName.toUpperCase().split("\\s+");
+        return LEVELS[Year.valueOf(parts[0]).ordinal()][Track.valueOf(parts[1]).ordinal()];
+    }
+
+    /**
+     * Returns the {@code Level} with the given year and track ordinals, as returned by {@link #getYearOrdinal()}
+     * and {@link #getTrackOrdinal()}.
+     *
+     * @throws IllegalArgumentException if the ordinals do not make up a valid level.
+     */
+    public static Level fromOrdinals(int yearOrdinal, int trackOrdinal) {
+        Level level = LEVELS[fromOrdinal(yearOrdinal, Year.class).ordinal()]
+                [fromOrdinal(trackOrdinal, Track.class).ordinal()];
+        checkArgument(level != null, MESSAGE_CONSTRAINTS);
+        return level;
+    }
+
+    public int getYearOrdinal() {
+        return year.ordinal();
+    }
+
+    public int getTrackOrdinal() {
+        return track.ordinal();
     }
 
     /**
@@ -64,8 +113,8 @@ public class Level {
         requireNonNull(track);
 
         // Check for NONE NONE as a valid input, but disallow other combinations with NONE
-        if (year.equals("NONE") || track.equals("NONE")) {
-            return year.equals("NONE") && track.equals("NONE");
+        if (year.equalsIgnoreCase("NONE") || track.equalsIgnoreCase("NONE")) {
+            return year.equalsIgnoreCase("NONE") && track.equalsIgnoreCase("NONE");
         }
 
         if (year.equalsIgnoreCase("S5")) {
@@ -86,16 +135,8 @@ public class Level {
 
     @Override
     public boolean equals(Object other) {
-        if (other == this) {
-            return true;
-        }
-
-        // instanceof handles nulls
-        if (!(other instanceof Level otherLevel)) {
-            return false;
-        }
-
-        return levelName.equals(otherLevel.levelName);
+        // levels are canonical, so equal levels are the same instance
+        return other == this;
     }
 
     @Override
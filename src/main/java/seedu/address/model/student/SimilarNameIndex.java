@@ -0,0 +1,190 @@
+package seedu.address.model.student;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An index of the names of students, for finding the names closest to a name that is not in the list, such as a
+ * misspelt one.
+ *
+ * Each case-folded name, padded with a boundary character on both sides, is split into its distinct bigrams, and every
+ * bigram maps to the names containing it. An edit changes at most two bigrams of a name, so a name within {@code k}
+ * edits of the searched name shares all but at most {@code 2k} of its distinct bigrams. Only the names sharing that
+ * many bigrams, and differing in length by at most {@code k}, have their edit distance computed.
+ *
+ * Names are numbered so that shared bigrams can be counted in an array; the numbers of removed names are reused.
+ */
+class SimilarNameIndex implements StudentIndex {
+
+    private static final char BOUNDARY = '\0';
+
+    private final List<Student> studentsById = new ArrayList<>();
+    private final List<String> keysById = new ArrayList<>();
+    private final Map<Student, Integer> idsByStudent = new IdentityHashMap<>();
+    private final Deque<Integer> freeIds = new ArrayDeque<>();
+    private final Map<Integer, Postings> postingsByBigram = new HashMap<>();
+
+    @Override
+    public void add(Student student) {
+        String key = toKey(student.getName());
+        int id;
+        if (freeIds.isEmpty()) {
+            id = studentsById.size();
+            studentsById.add(student);
+            keysById.add(key);
+        } else {
+            id = freeIds.pop();
+            studentsById.set(id, student);
+            keysById.set(id, key);
+        }
+        idsByStudent.put(student, id);
+
+        for (int bigram : toBigrams(key)) {
+            postingsByBigram.computeIfAbsent(bigram, unused -> new Postings()).add(id);
+        }
+    }
+
+    @Override
+    public void remove(Student student) {
+        Integer id = idsByStudent.remove(student);
+        if (id == null) {
+            return;
+        }
+
+        for (int bigram : toBigrams(keysById.get(id))) {
+            Postings postings = postingsByBigram.get(bigram);
+            postings.remove(id);
+            if (postings.size == 0) {
+                postingsByBigram.remove(bigram);
+            }
+        }
+        studentsById.set(id, null);
+        keysById.set(id, null);
+        freeIds.push(id);
+    }
+
+    /**
+     * Returns up to {@code limit} names of students within {@code maxDistance} edits of {@code name}, ignoring case,
+     * closest first. Names at the same distance are sorted alphabetically.
+     */
+    List<Name> findSimilar(Name name, int maxDistance, int limit) {
+        String key = toKey(name);
+        int[] bigrams = toBigrams(key);
+        int minSharedBigrams = bigrams.length - 2 * maxDistance;
+
+        List<Integer> candidateIds = new ArrayList<>();
+        if (minSharedBigrams <= 0) {
+            for (int id = 0; id < studentsById.size(); id++) {
+                if (studentsById.get(id) != null) {
+                    candidateIds.add(id);
+                }
+            }
+        } else {
+            int[] sharedBigrams = new int[studentsById.size()];
+            for (int bigram : bigrams) {
+                Postings postings = postingsByBigram.get(bigram);
+                if (postings == null) {
+                    continue;
+                }
+                for (int i = 0; i < postings.size; i++) {
+                    int id = postings.ids[i];
+                    if (++sharedBigrams[id] == minSharedBigrams) {
+                        candidateIds.add(id);
+                    }
+                }
+            }
+        }
+
+        List<Match> matches = new ArrayList<>();
+        for (int id : candidateIds) {
+            String candidateKey = keysById.get(id);
+            if (Math.abs(candidateKey.length() - key.length()) > maxDistance) {
+                continue;
+            }
+            int distance = StringUtil.editDistance(key, candidateKey);
+            if (distance <= maxDistance) {
+                matches.add(new Match(studentsById.get(id).getName(), distance));
+            }
+        }
+
+        return matches.stream()
+                .sorted(Comparator.comparingInt((Match match) -> match.distance)
+                        .thenComparing(match -> match.name.fullName))
+                .limit(limit)
+                .map(match -> match.name)
+                .toList();
+    }
+
+    private static String toKey(Name name) {
+        return name.fullName.toLowerCase();
+    }
+
+    /**
+     * Returns the distinct bigrams of {@code key} padded with {@link #BOUNDARY}, each packed into an {@code int}, in
+     * ascending order.
+     */
+    private static int[] toBigrams(String key) {
+        int[] bigrams = new int[key.length() + 1];
+        char previous = BOUNDARY;
+        for (int i = 0; i < key.length(); i++) {
+            bigrams[i] = previous << Character.SIZE | key.charAt(i);
+            previous = key.charAt(i);
+        }
+        bigrams[key.length()] = previous << Character.SIZE | BOUNDARY;
+
+        Arrays.sort(bigrams);
+        int distinctCount = 0;
+        for (int i = 0; i < bigrams.length; i++) {
+            if (i == 0 || bigrams[i] != bigrams[i - 1]) {
+                bigrams[distinctCount++] = bigrams[i];
+            }
+        }
+        return Arrays.copyOf(bigrams, distinctCount);
+    }
+
+    /**
+     * The numbers of the names containing a bigram, in no particular order.
+     */
+    private static class Postings {
+        private int[] ids = new int[4];
+        private int size;
+
+        void add(int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        void remove(int id) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    ids[i] = ids[--size];
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * A name found within the searched distance.
+     */
+    private static class Match {
+        private final Name name;
+        private final int distance;
+
+        Match(Name name, int distance) {
+            this.name = name;
+            this.distance = distance;
+        }
+    }
+}
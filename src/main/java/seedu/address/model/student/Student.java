@@ -3,11 +3,11 @@ package seedu.address.model.student;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.function.Supplier;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.student.task.TaskList;
@@ -20,16 +20,14 @@ public class Student {
 
     // Identity fields
     private final Name name;
-    private final Phone phone;
-    private final EmergencyContact emergencyContact;
 
     // Data fields
-    private final Address address;
-    private final Note note;
-    private final Set<Subject> subjects = new HashSet<>();
+    private final int subjectMask;
     private final Level level;
-    private final TaskList taskList;
-    private final SortedSet<LessonTime> lessonTimes = new TreeSet<>();
+
+    // Fields loaded on first access
+    private Supplier<Details> detailsLoader;
+    private volatile Details details;
 
     /**
      * Every field must be present and not null.
@@ -39,18 +37,21 @@ public class Student {
                    Level level, TaskList tasklist, Set<LessonTime> lessonTimes) {
         requireAllNonNull(name, phone, address, subjects);
         this.name = name;
-        this.phone = phone;
-        this.emergencyContact = emergencyContact;
-        this.address = address;
-        this.note = (note != null) ? note : new Note("");
-        if (!subjects.isEmpty()) {
-            this.subjects.addAll(subjects);
-        }
+        this.subjectMask = Subject.toMask(subjects);
         this.level = level;
-        this.taskList = tasklist.copy();
-        if (!lessonTimes.isEmpty()) {
-            this.lessonTimes.addAll(lessonTimes);
-        }
+        this.details = new Details(phone, emergencyContact, address, note, tasklist, lessonTimes);
+    }
+
+    /**
+     * Constructs a {@code Student} whose remaining fields are loaded by {@code detailsLoader} when first accessed.
+     * Every field must be present and not null.
+     */
+    public Student(Name name, Set<Subject> subjects, Level level, Supplier<Details> detailsLoader) {
+        requireAllNonNull(name, subjects, level, detailsLoader);
+        this.name = name;
+        this.subjectMask = Subject.toMask(subjects);
+        this.level = level;
+        this.detailsLoader = detailsLoader;
     }
 
     public Name getName() {
@@ -58,19 +59,19 @@ public class Student {
     }
 
     public Phone getPhone() {
-        return phone;
+        return getDetails().phone;
     }
 
     public EmergencyContact getEmergencyContact() {
-        return emergencyContact;
+        return getDetails().emergencyContact;
     }
 
     public Address getAddress() {
-        return address;
+        return getDetails().address;
     }
 
     public Note getNote() {
-        return note;
+        return getDetails().note;
     }
 
     /**
@@ -78,7 +79,14 @@ public class Student {
      * if modification is attempted.
      */
     public Set<Subject> getSubjects() {
-        return Collections.unmodifiableSet(subjects);
+        return Subject.fromMask(subjectMask);
+    }
+
+    /**
+     * Returns the subjects of this student as a bitmask, as returned by {@link Subject#toMask}.
+     */
+    public int getSubjectMask() {
+        return subjectMask;
     }
 
     public Level getLevel() {
@@ -86,7 +94,7 @@ public class Student {
     }
 
     public TaskList getTaskList() {
-        return taskList;
+        return getDetails().taskList;
     }
 
     /**
@@ -94,7 +102,25 @@ public class Student {
      * if modification is attempted.
      */
     public Set<LessonTime> getLessonTimes() {
-        return Collections.unmodifiableSet(lessonTimes);
+        return Collections.unmodifiableSet(getDetails().lessonTimes);
+    }
+
+    /**
+     * Returns the fields loaded on first access, loading them if this is the first access.
+     */
+    private Details getDetails() {
+        Details loadedDetails = details;
+        if (loadedDetails != null) {
+            return loadedDetails;
+        }
+
+        synchronized (this) {
+            if (details == null) {
+                details = detailsLoader.get();
+                detailsLoader = null;
+            }
+            return details;
+        }
     }
 
     /**
@@ -127,35 +153,84 @@ public class Student {
 
         Student otherStudent = (Student) other;
         return name.equals(otherStudent.name)
-                && phone.equals(otherStudent.phone)
-                && emergencyContact.equals(otherStudent.emergencyContact)
-                && address.equals(otherStudent.address)
-                && note.equals(otherStudent.note)
                 && level.equals(otherStudent.level)
-                && subjects.equals(otherStudent.subjects)
-                && taskList.equals(otherStudent.taskList)
-                && lessonTimes.equals(otherStudent.lessonTimes);
+                && subjectMask == otherStudent.subjectMask
+                && getDetails().equals(otherStudent.getDetails());
     }
 
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, emergencyContact, address, note, subjects, level, taskList, lessonTimes);
+        return Objects.hash(name, getPhone(), getEmergencyContact(), getAddress(), getNote(), subjectMask, level,
+                getTaskList(), getLessonTimes());
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("name", name)
-                .add("phone", phone)
-                .add("emergency contact", emergencyContact)
-                .add("address", address)
-                .add("note", note)
-                .add("subjects", subjects)
+                .add("phone", getPhone())
+                .add("emergency contact", getEmergencyContact())
+                .add("address", getAddress())
+                .add("note", getNote())
+                .add("subjects", getSubjects())
                 .add("level", level)
-                .add("task list", taskList)
-                .add("lesson times", lessonTimes)
+                .add("task list", getTaskList())
+                .add("lesson times", getLessonTimes())
                 .toString();
     }
 
+    /**
+     * The fields of a {@code Student} other than its name, subjects and level, which can be loaded on first access.
+     */
+    public static class Details {
+        private final Phone phone;
+        private final EmergencyContact emergencyContact;
+        private final Address address;
+        private final Note note;
+        private final TaskList taskList;
+        private final SortedSet<LessonTime> lessonTimes = new TreeSet<>();
+
+        /**
+         * Every field must be present and not null.
+         */
+        public Details(Phone phone, EmergencyContact emergencyContact, Address address, Note note,
+                       TaskList tasklist, Set<LessonTime> lessonTimes) {
+            requireAllNonNull(phone, address);
+            this.phone = phone;
+            this.emergencyContact = emergencyContact;
+            this.address = address;
+            this.note = (note != null) ? note : new Note("");
+            this.taskList = tasklist.copy();
+            if (!lessonTimes.isEmpty()) {
+                this.lessonTimes.addAll(lessonTimes);
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Details)) {
+                return false;
+            }
+
+            Details otherDetails = (Details) other;
+            return phone.equals(otherDetails.phone)
+                    && emergencyContact.equals(otherDetails.emergencyContact)
+                    && address.equals(otherDetails.address)
+                    && note.equals(otherDetails.note)
+                    && taskList.equals(otherDetails.taskList)
+                    && lessonTimes.equals(otherDetails.lessonTimes);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(phone, emergencyContact, address, note, taskList, lessonTimes);
+        }
+    }
+
 }
@@ -0,0 +1,17 @@
+package seedu.address.model.student;
+
+/**
+ * An index over the students of a {@code UniqueStudentList} that is kept in sync as students are added and removed.
+ */
+interface StudentIndex {
+
+    /**
+     * Adds {@code student} to the index.
+     */
+    void add(Student student);
+
+    /**
+     * Removes {@code student}, which must have been added to the index, from the index.
+     */
+    void remove(Student student);
+}
@@ -0,0 +1,104 @@
+package seedu.address.model.student;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * A columnar copy of the fields of students that are scanned rather than looked up, so that a scan is a loop over
+ * arrays of primitives instead of a walk over the tasks and lesson times of every student.
+ *
+ * Each student is a row, and each field is an array indexed by row. Rows are not in the order of the list: a removed
+ * row is filled with the last row, so that the rows stay contiguous. Large tables are scanned on several threads.
+ */
+class StudentTable implements StudentIndex {
+
+    /** Tables with fewer rows are scanned on one thread, as splitting the scan would cost more than it saves. */
+    static final int PARALLEL_THRESHOLD = 1 << 13;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<Student, Integer> rowsByStudent = new IdentityHashMap<>();
+    private Student[] students = new Student[INITIAL_CAPACITY];
+    private int[] taskCounts = new int[INITIAL_CAPACITY];
+    /** The bit at the ordinal of each day the student has a lesson on is set. */
+    private int[] lessonDayMasks = new int[INITIAL_CAPACITY];
+    private int size;
+
+    @Override
+    public void add(Student student) {
+        if (size == students.length) {
+            int capacity = size * 2;
+            students = Arrays.copyOf(students, capacity);
+            taskCounts = Arrays.copyOf(taskCounts, capacity);
+            lessonDayMasks = Arrays.copyOf(lessonDayMasks, capacity);
+        }
+
+        int row = size++;
+        students[row] = student;
+        taskCounts[row] = student.getTaskList().size();
+        lessonDayMasks[row] = toLessonDayMask(student);
+        rowsByStudent.put(student, row);
+    }
+
+    @Override
+    public void remove(Student student) {
+        Integer row = rowsByStudent.remove(student);
+        if (row == null) {
+            return;
+        }
+
+        int lastRow = --size;
+        if (row != lastRow) {
+            students[row] = students[lastRow];
+            taskCounts[row] = taskCounts[lastRow];
+            lessonDayMasks[row] = lessonDayMasks[lastRow];
+            rowsByStudent.put(students[row], row);
+        }
+        students[lastRow] = null;
+    }
+
+    /**
+     * Returns the students with at least one task. The returned set compares students by identity.
+     */
+    Set<Student> findWithTasks() {
+        int[] counts = taskCounts;
+        return select(row -> counts[row] > 0);
+    }
+
+    /**
+     * Returns the students with a lesson on any of the days in {@code lessonDayMask}, which has the bit at the ordinal
+     * of each day set. The returned set compares students by identity.
+     */
+    Set<Student> findByLessonDays(int lessonDayMask) {
+        int[] masks = lessonDayMasks;
+        return select(row -> (masks[row] & lessonDayMask) != 0);
+    }
+
+    /**
+     * Returns the students in the rows accepted by {@code rowFilter}, scanning the rows in parallel if there are at
+     * least {@link #PARALLEL_THRESHOLD} of them.
+     */
+    private Set<Student> select(IntPredicate rowFilter) {
+        IntStream rows = IntStream.range(0, size);
+        int[] selectedRows = (size >= PARALLEL_THRESHOLD ? rows.parallel() : rows).filter(rowFilter).toArray();
+
+        Set<Student> matches = Collections.newSetFromMap(new IdentityHashMap<>(selectedRows.length));
+        for (int row : selectedRows) {
+            matches.add(students[row]);
+        }
+        return matches;
+    }
+
+    private static int toLessonDayMask(Student student) {
+        int mask = 0;
+        for (LessonTime lessonTime : student.getLessonTimes()) {
+            mask |= 1 << lessonTime.getLessonDayOrdinal();
+        }
+        return mask;
+    }
+}
@@ -5,14 +5,20 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.EnumUtil.inEnum;
 
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.EnumSet;
-import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 
+import seedu.address.commons.util.EnumUtil;
+
 /**
  * Represents a Subject in the address book.
- * Guarantees: immutable; name is valid as declared in {@link #isValidSubjectName(String)}
+ * Guarantees: immutable; name is valid as declared in {@link #isValidSubjectName(String)}; there is a single instance
+ * of each subject, obtained from {@link #of(String)}, so subjects are equal only if they are the same instance.
  */
 public class Subject {
     enum Subjects {
@@ -28,7 +34,7 @@ public class Subject {
 
     public static final String MESSAGE_LEVEL_NEEDED = "Tag a student with a level first or in the same command";
 
-    private static final Map<Level, EnumSet<Subjects>> validSubjectsByLevel = new HashMap<>();
+    private static final Map<Level, EnumSet<Subjects>> validSubjectsByLevel = new IdentityHashMap<>();
     private static final EnumSet<Subjects> validLowerSecondarySubjects = EnumSet.of(
             Subjects.ENGLISH, Subjects.MATH, Subjects.SCIENCE, Subjects.PHYSICS, Subjects.CHEMISTRY,
             Subjects.BIOLOGY, Subjects.GEOGRAPHY, Subjects.HISTORY, Subjects.LITERATURE, Subjects.SOCIAL_STUDIES,
@@ -43,43 +49,91 @@ public class Subject {
             Subjects.HIGHER_MALAY, Subjects.TAMIL, Subjects.HIGHER_TAMIL, Subjects.HINDI, Subjects.MUSIC, Subjects.ART
     );
     static {
-        validSubjectsByLevel.put(new Level("S1 EXPRESS"), validLowerSecondarySubjects);
-        validSubjectsByLevel.put(new Level("S1 NA"), validLowerSecondarySubjects);
-        validSubjectsByLevel.put(new Level("S1 NT"), validLowerSecondarySubjects);
-        validSubjectsByLevel.put(new Level("S1 IP"), validLowerSecondarySubjects);
-
-        validSubjectsByLevel.put(new Level("S2 EXPRESS"), validLowerSecondarySubjects);
-        validSubjectsByLevel.put(new Level("S2 NA"), validLowerSecondarySubjects);
-        validSubjectsByLevel.put(new Level("S2 NT"), validLowerSecondarySubjects);
-        validSubjectsByLevel.put(new Level("S2 IP"), validLowerSecondarySubjects);
-
-        validSubjectsByLevel.put(new Level("S3 EXPRESS"), validUpperSecondarySubjects);
-        validSubjectsByLevel.put(new Level("S3 NA"), validUpperSecondarySubjects);
-        validSubjectsByLevel.put(new Level("S3 NT"), validUpperSecondarySubjects);
-        validSubjectsByLevel.put(new Level("S3 IP"), validUpperSecondarySubjects);
-
-        validSubjectsByLevel.put(new Level("S4 EXPRESS"), validUpperSecondarySubjects);
-        validSubjectsByLevel.put(new Level("S4 NA"), validUpperSecondarySubjects);
-        validSubjectsByLevel.put(new Level("S4 NT"), validUpperSecondarySubjects);
-        validSubjectsByLevel.put(new Level("S4 IP"), validUpperSecondarySubjects);
+        validSubjectsByLevel.put(Level.of("S1 EXPRESS"), validLowerSecondarySubjects);
+        validSubjectsByLevel.put(Level.of("S1 NA"), validLowerSecondarySubjects);
+        validSubjectsByLevel.put(Level.of("S1 NT"), validLowerSecondarySubjects);
+        validSubjectsByLevel.put(Level.of("S1 IP"), validLowerSecondarySubjects);
+
+        validSubjectsByLevel.put(Level.of("S2 EXPRESS"), validLowerSecondarySubjects);
+        validSubjectsByLevel.put(Level.of("S2 NA"), validLowerSecondarySubjects);
+        validSubjectsByLevel.put(Level.of("S2 NT"), validLowerSecondarySubjects);
+        validSubjectsByLevel.put(Level.of("S2 IP"), validLowerSecondarySubjects);
+
+        validSubjectsByLevel.put(Level.of("S3 EXPRESS"), validUpperSecondarySubjects);
+        validSubjectsByLevel.put(Level.of("S3 NA"), validUpperSecondarySubjects);
+        validSubjectsByLevel.put(Level.of("S3 NT"), validUpperSecondarySubjects);
+        validSubjectsByLevel.put(Level.of("S3 IP"), validUpperSecondarySubjects);
+
+        validSubjectsByLevel.put(Level.of("S4 EXPRESS"), validUpperSecondarySubjects);
+        validSubjectsByLevel.put(Level.of("S4 NA"), validUpperSecondarySubjects);
+        validSubjectsByLevel.put(Level.of("S4 NT"), validUpperSecondarySubjects);
+        validSubjectsByLevel.put(Level.of("S4 IP"), validUpperSecondarySubjects);
     }
 
     private static final String MESSAGE_VALID_SUBJECTS_BASE = "Subject is not valid for given level. "
             + "Valid subjects for";
     private static String messageValidSubjectsByLevel = "";
+
+    /** The subjects, indexed by their ordinals. */
+    private static final Subject[] SUBJECTS = Arrays.stream(Subjects.values())
+            .map(Subject::new)
+            .toArray(Subject[]::new);
+
     public final String subjectName;
+    private final Subjects subject;
+
+    private Subject(Subjects subject) {
+        this.subject = subject;
+        this.subjectName = subject.name();
+    }
 
     /**
-     * Constructs a {@code Subject}.
+     * Returns the {@code Subject} with the given name, ignoring case.
      *
      * @param subjectName A valid subject name.
      * @throws NullPointerException if subjectName is null.
      * @throws IllegalArgumentException if subjectName is invalid.
      */
-    public Subject(String subjectName) {
+    public static Subject of(String subjectName) {
         requireNonNull(subjectName);
         checkArgument(isValidSubjectName(subjectName), MESSAGE_CONSTRAINTS);
-        this.subjectName = subjectName.toUpperCase();
+        return SUBJECTS[Subjects.valueOf(subjectName.toUpperCase()).ordinal()];
+    }
+
+    /**
+     * Returns the {@code Subject} with the given ordinal, as returned by {@link #getOrdinal()}.
+     *
+     * @throws IllegalArgumentException if no subject has the given ordinal.
+     */
+    public static Subject fromOrdinal(int ordinal) {
+        return SUBJECTS[EnumUtil.fromOrdinal(ordinal, Subjects.class).ordinal()];
+    }
+
+    public int getOrdinal() {
+        return subject.ordinal();
+    }
+
+    /**
+     * Returns a bitmask with the bit at {@link #getOrdinal()} set for each of {@code subjects}.
+     */
+    public static int toMask(Collection<Subject> subjects) {
+        int mask = 0;
+        for (Subject subject : subjects) {
+            mask |= 1 << subject.getOrdinal();
+        }
+        return mask;
+    }
+
+    /**
+     * Returns an immutable set of the subjects whose bits are set in {@code mask}, as returned by
+     * {@link #toMask(Collection)}, iterating in the order of their ordinals.
+     */
+    public static Set<Subject> fromMask(int mask) {
+        Set<Subject> subjects = new LinkedHashSet<>();
+        for (int remaining = mask; remaining != 0; remaining &= remaining - 1) {
+            subjects.add(fromOrdinal(Integer.numberOfTrailingZeros(remaining)));
+        }
+        return Collections.unmodifiableSet(subjects);
     }
 
     /**
@@ -91,7 +145,7 @@ public class Subject {
      */
     public static boolean isValidSubjectNameByLevel(Level level, String subjectName) {
         requireNonNull(subjectName);
-        if (level.levelName.equals("NONE NONE")) {
+        if (level == Level.NONE) {
             return false;
         }
         return validSubjectsByLevel
@@ -115,7 +169,7 @@ public class Subject {
      * @return A message listing valid subjects for the level, or a message indicating a level is required.
      */
     public static String getValidSubjectMessage(Level level) {
-        if (level == null || level.levelName.equals("NONE NONE")) {
+        if (level == null || level == Level.NONE) {
             return Subject.MESSAGE_LEVEL_NEEDED;
         }
 
@@ -144,13 +198,13 @@ public class Subject {
      * @return true if all subjects are valid for the specified level, false otherwise.
      */
     public static boolean isValidSubjectsByLevel(Level level, Set<Subject> subjects) {
-        if (level == null || level.levelName.equals("NONE NONE")) {
+        if (level == null || level == Level.NONE) {
             messageValidSubjectsByLevel = Subject.MESSAGE_LEVEL_NEEDED;
             return false;
         }
         EnumSet<Subjects> validSubjects = validSubjectsByLevel.get(level);
         for (Subject s : subjects) {
-            if (!validSubjects.contains(Subjects.valueOf(s.subjectName))) {
+            if (!validSubjects.contains(s.subject)) {
                 messageValidSubjectsByLevel = String.format("%s %s: %s",
                         MESSAGE_VALID_SUBJECTS_BASE, level, validSubjects);
                 return false;
@@ -168,17 +222,8 @@ public class Subject {
      */
     @Override
     public boolean equals(Object other) {
-        if (other == this) {
-            return true;
-        }
-
-        // instanceof handles nulls
-        if (!(other instanceof Subject)) {
-            return false;
-        }
-
-        Subject otherSubject = (Subject) other;
-        return subjectName.equals(otherSubject.subjectName);
+        // subjects are canonical, so equal subjects are the same instance
+        return other == this;
     }
 
     /**
@@ -3,13 +3,26 @@ package seedu.address.model.student;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.student.exceptions.DuplicateStudentException;
 import seedu.address.model.student.exceptions.StudentNotFoundException;
+import seedu.address.model.student.task.DueTask;
 
 /**
  * A list of students that enforces uniqueness between its elements and does not allow nulls.
@@ -20,6 +33,21 @@ import seedu.address.model.student.exceptions.StudentNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * A name-keyed index is kept in sync with the backing list so that identity checks do not need to scan every
+ * student in the list. An inverted index from each case-folded word of a name to the names containing it is kept in
+ * the same way, so that name searches only look at the students that match. For each subject, a bitmap of the
+ * positions of the students taking it is kept as well, so that subject searches are a union of bitmaps. Students are
+ * also bucketed by level, so that level searches and counts only look at the students of that level. Indexes of the
+ * lesson times, the task deadlines and the words in the notes and tasks of all students are built on the first search
+ * that needs them and kept in sync from then on; they are not built eagerly because reading these fields may load
+ * details that storage reads lazily. An index of similar names is built in the same way, as it is only needed once a
+ * name is not found, and so is a columnar table of the task counts and lesson days of all students, which scans for
+ * students with tasks or lessons on given days.
+ *
+ * Every modification bumps a version number, so that callers can tell whether the list has changed since they
+ * last looked at it without comparing its contents. The version is bumped before the list itself changes, so that
+ * listeners of the list already see the new version when they are notified of the change.
+ *
  * @see Student#isSameStudent(Student)
  */
 public class UniqueStudentList implements Iterable<Student> {
@@ -27,13 +55,149 @@ public class UniqueStudentList implements Iterable<Student> {
     private final ObservableList<Student> internalList = FXCollections.observableArrayList();
     private final ObservableList<Student> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Student> studentsByName = new HashMap<>();
+    private final Map<String, Set<Name>> namesByToken = new HashMap<>();
+    private final BitSet[] positionsBySubject = newSubjectBitmaps();
+    private final Map<Level, Set<Student>> studentsByLevel = new IdentityHashMap<>();
+    private LessonTimeIndex lessonTimeIndex;
+    private DeadlineIndex deadlineIndex;
+    private FullTextIndex fullTextIndex;
+    private SimilarNameIndex similarNameIndex;
+    private StudentTable studentTable;
+    private long version;
 
     /**
      * Returns true if the list contains an equivalent student as the given argument.
      */
     public boolean contains(Student toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameStudent);
+        return studentsByName.containsKey(toCheck.getName());
+    }
+
+    /**
+     * Returns the student in the list whose identity matches {@code name}, if any.
+     */
+    public Optional<Student> find(Name name) {
+        requireNonNull(name);
+        return Optional.ofNullable(studentsByName.get(name));
+    }
+
+    /**
+     * Returns the students in the list whose name contains any of {@code tokens} as a whole word, ignoring case.
+     * The returned set compares students by identity.
+     */
+    public Set<Student> findByNameTokens(Collection<String> tokens) {
+        requireAllNonNull(tokens);
+        Set<Student> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String token : tokens) {
+            for (Name name : namesByToken.getOrDefault(token.toLowerCase(), Collections.emptySet())) {
+                matches.add(studentsByName.get(name));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the students in the list taking any of the subjects in {@code subjectMask}, as returned by
+     * {@link Subject#toMask}. The returned set compares students by identity.
+     */
+    public Set<Student> findBySubjects(int subjectMask) {
+        BitSet positions = new BitSet();
+        for (int remaining = subjectMask; remaining != 0; remaining &= remaining - 1) {
+            positions.or(positionsBySubject[Integer.numberOfTrailingZeros(remaining)]);
+        }
+
+        Set<Student> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = positions.nextSetBit(0); i >= 0; i = positions.nextSetBit(i + 1)) {
+            matches.add(internalList.get(i));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the students in the list with the given {@code level}, as an unmodifiable view that compares students by
+     * identity. The view reflects later modifications of the list.
+     */
+    public Set<Student> findByLevel(Level level) {
+        requireNonNull(level);
+        Set<Student> bucket = studentsByLevel.get(level);
+        return bucket == null ? Collections.emptySet() : Collections.unmodifiableSet(bucket);
+    }
+
+    /**
+     * Returns the students in the list with a lesson overlapping {@code lessonTime}.
+     * The returned set compares students by identity.
+     */
+    public Set<Student> findByLessonTime(LessonTime lessonTime) {
+        requireNonNull(lessonTime);
+        if (lessonTimeIndex == null) {
+            lessonTimeIndex = build(new LessonTimeIndex());
+        }
+        return lessonTimeIndex.findOverlapping(lessonTime);
+    }
+
+    /**
+     * Returns the students in the list with a lesson on any of the days in {@code lessonDayMask}, which has the bit at
+     * the ordinal of each day set, as returned by {@link LessonTime#getLessonDayOrdinal()}.
+     * The returned set compares students by identity.
+     */
+    public Set<Student> findByLessonDays(int lessonDayMask) {
+        return getStudentTable().findByLessonDays(lessonDayMask);
+    }
+
+    /**
+     * Returns the students in the list with at least one task. The returned set compares students by identity.
+     */
+    public Set<Student> findWithTasks() {
+        return getStudentTable().findWithTasks();
+    }
+
+    /**
+     * Returns up to {@code limit} tasks of the students in the list that are due on or after {@code date}, ordered by
+     * deadline.
+     */
+    public List<DueTask> findTasksDueFrom(LocalDate date, int limit) {
+        requireNonNull(date);
+        if (deadlineIndex == null) {
+            deadlineIndex = build(new DeadlineIndex());
+        }
+        return deadlineIndex.findDueFrom(date, limit);
+    }
+
+    /**
+     * Returns the students in the list with a task due on or after {@code from} and on or before {@code to}.
+     * The returned set compares students by identity.
+     */
+    public Set<Student> findWithTasksDueBetween(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        if (deadlineIndex == null) {
+            deadlineIndex = build(new DeadlineIndex());
+        }
+        return deadlineIndex.findStudentsDueBetween(from, to);
+    }
+
+    /**
+     * Returns the students in the list whose note or task descriptions contain any of {@code words}, ignoring case,
+     * each mapped to the number of times those words occur in them. The returned map compares students by identity.
+     */
+    public Map<Student, Integer> findByWords(Collection<String> words) {
+        requireAllNonNull(words);
+        if (fullTextIndex == null) {
+            fullTextIndex = build(new FullTextIndex());
+        }
+        return fullTextIndex.find(words);
+    }
+
+    /**
+     * Returns up to {@code limit} names of students in the list within {@code maxDistance} edits of {@code name},
+     * ignoring case, closest first.
+     */
+    public List<Name> findSimilarNames(Name name, int maxDistance, int limit) {
+        requireNonNull(name);
+        if (similarNameIndex == null) {
+            similarNameIndex = build(new SimilarNameIndex());
+        }
+        return similarNameIndex.findSimilar(name, maxDistance, limit);
     }
 
     /**
@@ -45,6 +209,12 @@ public class UniqueStudentList implements Iterable<Student> {
         if (contains(toAdd)) {
             throw new DuplicateStudentException();
         }
+        studentsByName.put(toAdd.getName(), toAdd);
+        indexTokens(toAdd.getName());
+        indexSubjects(internalList.size(), toAdd.getSubjectMask());
+        indexLevel(toAdd);
+        builtIndexes().forEach(builtIndex -> builtIndex.add(toAdd));
+        version++;
         internalList.add(toAdd);
     }
 
@@ -65,6 +235,19 @@ public class UniqueStudentList implements Iterable<Student> {
             throw new DuplicateStudentException();
         }
 
+        studentsByName.remove(target.getName());
+        unindexTokens(target.getName());
+        studentsByName.put(updatedStudent.getName(), updatedStudent);
+        indexTokens(updatedStudent.getName());
+        unindexSubjects(index);
+        indexSubjects(index, updatedStudent.getSubjectMask());
+        unindexLevel(internalList.get(index));
+        indexLevel(updatedStudent);
+        for (StudentIndex builtIndex : builtIndexes()) {
+            builtIndex.remove(internalList.get(index));
+            builtIndex.add(updatedStudent);
+        }
+        version++;
         internalList.set(index, updatedStudent);
     }
 
@@ -74,13 +257,30 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public void remove(Student toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new StudentNotFoundException();
         }
+        studentsByName.remove(toRemove.getName());
+        unindexTokens(toRemove.getName());
+        removeSubjectPosition(index);
+        Student removed = internalList.get(index);
+        unindexLevel(removed);
+        builtIndexes().forEach(builtIndex -> builtIndex.remove(removed));
+        version++;
+        internalList.remove(index);
     }
 
     public void setStudents(UniqueStudentList replacement) {
         requireNonNull(replacement);
+        Map<Name, Student> replacementIndex = new HashMap<>(replacement.studentsByName);
+        studentsByName.clear();
+        studentsByName.putAll(replacementIndex);
+        reindexTokens();
+        reindexSubjects(replacement.internalList);
+        reindexLevels(replacement.internalList);
+        clearBuiltIndexes();
+        version++;
         internalList.setAll(replacement.internalList);
     }
 
@@ -90,13 +290,28 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public void setStudents(List<Student> students) {
         requireAllNonNull(students);
-        if (!studentsAreUnique(students)) {
+        Map<Name, Student> replacementIndex = indexByName(students);
+        if (replacementIndex.size() != students.size()) {
             throw new DuplicateStudentException();
         }
 
+        studentsByName.clear();
+        studentsByName.putAll(replacementIndex);
+        reindexTokens();
+        reindexSubjects(students);
+        reindexLevels(students);
+        clearBuiltIndexes();
+        version++;
         internalList.setAll(students);
     }
 
+    /**
+     * Returns the number of modifications made to this list so far.
+     */
+    public long getVersion() {
+        return version;
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -106,7 +321,7 @@ public class UniqueStudentList implements Iterable<Student> {
 
     @Override
     public Iterator<Student> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -134,17 +349,139 @@ public class UniqueStudentList implements Iterable<Student> {
         return internalList.toString();
     }
 
+    private void indexTokens(Name name) {
+        for (String token : nameTokens(name)) {
+            namesByToken.computeIfAbsent(token, unused -> new HashSet<>()).add(name);
+        }
+    }
+
+    private void unindexTokens(Name name) {
+        for (String token : nameTokens(name)) {
+            namesByToken.computeIfPresent(token, (unused, names) -> {
+                names.remove(name);
+                return names.isEmpty() ? null : names;
+            });
+        }
+    }
+
+    private void reindexTokens() {
+        namesByToken.clear();
+        studentsByName.keySet().forEach(this::indexTokens);
+    }
+
+    private void indexSubjects(int position, int subjectMask) {
+        for (int remaining = subjectMask; remaining != 0; remaining &= remaining - 1) {
+            positionsBySubject[Integer.numberOfTrailingZeros(remaining)].set(position);
+        }
+    }
+
+    private void unindexSubjects(int position) {
+        for (BitSet positions : positionsBySubject) {
+            positions.clear(position);
+        }
+    }
+
     /**
-     * Returns true if {@code students} contains only unique students.
+     * Removes {@code position} from the subject bitmaps, moving the positions after it down by one to match the
+     * backing list.
      */
-    private boolean studentsAreUnique(List<Student> students) {
-        for (int i = 0; i < students.size() - 1; i++) {
-            for (int j = i + 1; j < students.size(); j++) {
-                if (students.get(i).isSameStudent(students.get(j))) {
-                    return false;
-                }
+    private void removeSubjectPosition(int position) {
+        for (BitSet positions : positionsBySubject) {
+            if (positions.length() <= position) {
+                continue;
+            }
+            BitSet following = positions.get(position + 1, positions.length());
+            positions.clear(position, positions.length());
+            for (int i = following.nextSetBit(0); i >= 0; i = following.nextSetBit(i + 1)) {
+                positions.set(position + i);
             }
         }
-        return true;
+    }
+
+    private void reindexSubjects(List<Student> students) {
+        for (BitSet positions : positionsBySubject) {
+            positions.clear();
+        }
+        for (int i = 0; i < students.size(); i++) {
+            indexSubjects(i, students.get(i).getSubjectMask());
+        }
+    }
+
+    private void indexLevel(Student student) {
+        studentsByLevel.computeIfAbsent(student.getLevel(), unused ->
+                Collections.newSetFromMap(new IdentityHashMap<>())).add(student);
+    }
+
+    private void unindexLevel(Student student) {
+        Set<Student> bucket = studentsByLevel.get(student.getLevel());
+        bucket.remove(student);
+        if (bucket.isEmpty()) {
+            studentsByLevel.remove(student.getLevel());
+        }
+    }
+
+    private void reindexLevels(List<Student> students) {
+        studentsByLevel.clear();
+        students.forEach(this::indexLevel);
+    }
+
+    /**
+     * Returns {@code index} after adding every student in the list to it.
+     */
+    private <T extends StudentIndex> T build(T index) {
+        internalList.forEach(index::add);
+        return index;
+    }
+
+    /**
+     * Returns the lazily built indexes that have been built so far.
+     */
+    private List<StudentIndex> builtIndexes() {
+        return Stream.of(lessonTimeIndex, deadlineIndex, fullTextIndex, similarNameIndex, studentTable)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private void clearBuiltIndexes() {
+        lessonTimeIndex = null;
+        deadlineIndex = null;
+        fullTextIndex = null;
+        similarNameIndex = null;
+        studentTable = null;
+    }
+
+    private StudentTable getStudentTable() {
+        if (studentTable == null) {
+            studentTable = build(new StudentTable());
+        }
+        return studentTable;
+    }
+
+    private static BitSet[] newSubjectBitmaps() {
+        BitSet[] bitmaps = new BitSet[Subject.Subjects.values().length];
+        for (int i = 0; i < bitmaps.length; i++) {
+            bitmaps[i] = new BitSet();
+        }
+        return bitmaps;
+    }
+
+    /**
+     * Returns the case-folded words of {@code name}, which are separated by single spaces.
+     */
+    private static String[] nameTokens(Name name) {
+        return name.fullName.toLowerCase().split(" ");
+    }
+
+    /**
+     * Returns a name-keyed index of {@code students}.
+     * Students with the same identity collapse into one entry, so the index is smaller than {@code students}
+     * if and only if {@code students} contains duplicates.
+     */
+    private static Map<Name, Student> indexByName(List<Student> students) {
+        Map<Name, Student> index = new HashMap<>(Math.max(16, (int) (students.size() / 0.75f) + 1));
+        for (Student student : students) {
+            index.putIfAbsent(student.getName(), student);
+        }
+        return index;
     }
 }
@@ -0,0 +1,130 @@
+package seedu.address.model.student.predicate;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.student.Student;
+
+/**
+ * Tests that a {@code Student} matches all, or any, of the given predicates.
+ *
+ * When finding the matching students of a model, the predicates that can be answered from an index or the cache of
+ * the model are looked up first. If all predicates must match, the smallest of the looked up sets is the most
+ * selective, so only its students are checked against the other looked up sets and then tested with the remaining
+ * predicates. If any predicate may match, the looked up sets are merged, unless some predicate has to be tested on
+ * every student anyway.
+ */
+public class CombinedPredicate implements QueryPredicate {
+    private final List<QueryPredicate> predicates;
+    private final boolean isMatchAll;
+
+    /**
+     * Constructs a predicate matching students that match all of {@code predicates} if {@code isMatchAll} is true,
+     * or any of {@code predicates} otherwise.
+     */
+    public CombinedPredicate(List<? extends QueryPredicate> predicates, boolean isMatchAll) {
+        requireAllNonNull(predicates);
+        this.predicates = List.copyOf(predicates);
+        this.isMatchAll = isMatchAll;
+    }
+
+    @Override
+    public boolean test(Student student) {
+        return isMatchAll
+                ? predicates.stream().allMatch(predicate -> predicate.test(student))
+                : predicates.stream().anyMatch(predicate -> predicate.test(student));
+    }
+
+    @Override
+    public Optional<Set<Student>> findMatches(Model model) {
+        List<Set<Student>> candidateSets = new ArrayList<>();
+        List<QueryPredicate> residualPredicates = new ArrayList<>();
+        for (QueryPredicate predicate : predicates) {
+            Optional<Set<Student>> candidates = model.findIndexedStudents(predicate);
+            if (candidates.isPresent()) {
+                candidateSets.add(candidates.get());
+            } else {
+                residualPredicates.add(predicate);
+            }
+        }
+
+        if (isMatchAll) {
+            return candidateSets.isEmpty()
+                    ? Optional.empty()
+                    : Optional.of(intersect(candidateSets, residualPredicates));
+        }
+        return residualPredicates.isEmpty() ? Optional.of(union(candidateSets)) : Optional.empty();
+    }
+
+    /**
+     * Ranks the matching students by the rankings of the predicates, in the order the predicates were given.
+     */
+    @Override
+    public Optional<Comparator<Student>> rankMatches(Model model) {
+        return predicates.stream()
+                .map(predicate -> predicate.rankMatches(model))
+                .flatMap(Optional::stream)
+                .reduce(Comparator::thenComparing);
+    }
+
+    /**
+     * Returns the students in all of {@code candidateSets} that match all of {@code residualPredicates}.
+     */
+    private static Set<Student> intersect(List<Set<Student>> candidateSets, List<QueryPredicate> residualPredicates) {
+        candidateSets.sort(Comparator.comparingInt(Set::size));
+        List<Set<Student>> otherSets = candidateSets.subList(1, candidateSets.size());
+
+        Set<Student> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Student student : candidateSets.get(0)) {
+            if (otherSets.stream().allMatch(candidates -> candidates.contains(student))
+                    && residualPredicates.stream().allMatch(predicate -> predicate.test(student))) {
+                matches.add(student);
+            }
+        }
+        return matches;
+    }
+
+    private static Set<Student> union(List<Set<Student>> candidateSets) {
+        Set<Student> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        candidateSets.forEach(matches::addAll);
+        return matches;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CombinedPredicate)) {
+            return false;
+        }
+
+        CombinedPredicate otherCombinedPredicate = (CombinedPredicate) other;
+        return predicates.equals(otherCombinedPredicate.predicates)
+                && isMatchAll == otherCombinedPredicate.isMatchAll;
+    }
+
+    @Override
+    public int hashCode() {
+        return predicates.hashCode() * 31 + Boolean.hashCode(isMatchAll);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicates", predicates)
+                .add("isMatchAll", isMatchAll)
+                .toString();
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.address.model.student.predicate;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.student.Student;
+
+/**
+ * Tests that a {@code Student} is one of the students matching a query in the version of the address book of a
+ * model the predicate was created in. Once the address book is modified, the query itself is tested instead.
+ *
+ * Two such predicates are equal if they are for equal queries in the same version of the same address book, as they
+ * then accept the same students.
+ */
+class IndexedPredicate implements Predicate<Student> {
+    private final QueryPredicate query;
+    private final ReadOnlyAddressBook addressBook;
+    private final long version;
+    private final Set<Student> matches;
+
+    /**
+     * Constructs a predicate accepting the students of {@code model} matching {@code query}.
+     */
+    IndexedPredicate(QueryPredicate query, Model model) {
+        requireAllNonNull(query, model);
+        this.query = query;
+        this.addressBook = model.getAddressBook();
+        this.version = addressBook.getVersion();
+        this.matches = model.findMatchingStudents(query);
+    }
+
+    @Override
+    public boolean test(Student student) {
+        return addressBook.getVersion() == version ? matches.contains(student) : query.test(student);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof IndexedPredicate)) {
+            return false;
+        }
+
+        IndexedPredicate otherIndexedPredicate = (IndexedPredicate) other;
+        return query.equals(otherIndexedPredicate.query)
+                && addressBook == otherIndexedPredicate.addressBook
+                && version == otherIndexedPredicate.version;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(query, System.identityHashCode(addressBook), version);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .add("version", version)
+                .toString();
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.model.student.predicate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.model.Model;
+import seedu.address.model.student.LessonTime;
+import seedu.address.model.student.Student;
+
+/**
+ * Tests that a {@code Student} has a {@code LessonTime} on any of the days given as keywords.
+ */
+public class LessonDayContainsKeywordsPredicate extends ContainsKeywordsPredicate {
+    /** The bit at the ordinal of each day named by the keywords is set. */
+    private final int lessonDayMask;
+
+    /**
+     * Constructs a predicate matching students with a lesson on any of the days named by {@code keywords},
+     * ignoring case. Keywords that do not name a day match no students.
+     */
+    public LessonDayContainsKeywordsPredicate(List<String> keywords) {
+        super(keywords);
+        this.lessonDayMask = keywords.stream()
+                .filter(LessonTime::isValidLessonDay)
+                .mapToInt(keyword -> 1 << LessonTime.toLessonDayOrdinal(keyword))
+                .reduce(0, (mask, bit) -> mask | bit);
+    }
+
+    @Override
+    public boolean test(Student student) {
+        for (LessonTime lessonTime : student.getLessonTimes()) {
+            if ((lessonDayMask & 1 << lessonTime.getLessonDayOrdinal()) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Scans the lesson days in the student table of {@code model}.
+     */
+    @Override
+    public Optional<Set<Student>> findMatches(Model model) {
+        return Optional.of(model.findStudentsByLessonDays(lessonDayMask));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof LessonDayContainsKeywordsPredicate)) {
+            return false;
+        }
+
+        LessonDayContainsKeywordsPredicate otherLessonDayContainsKeywordsPredicate =
+                (LessonDayContainsKeywordsPredicate) other;
+        return keywords.equals(otherLessonDayContainsKeywordsPredicate.keywords);
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.model.student.predicate;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.student.LessonTime;
+import seedu.address.model.student.Student;
+
+/**
+ * Tests that a {@code Student} has a {@code LessonTime} overlapping the given lesson time.
+ */
+public class LessonTimeOverlapsPredicate implements QueryPredicate {
+    private final LessonTime lessonTime;
+
+    /**
+     * Constructs a predicate matching students with a lesson overlapping {@code lessonTime}.
+     */
+    public LessonTimeOverlapsPredicate(LessonTime lessonTime) {
+        requireNonNull(lessonTime);
+        this.lessonTime = lessonTime;
+    }
+
+    @Override
+    public boolean test(Student student) {
+        return student.getLessonTimes().stream().anyMatch(lessonTime::overlaps);
+    }
+
+    /**
+     * Looks up the matching students in the lesson time index of {@code model}, instead of examining the lessons of
+     * every student.
+     */
+    @Override
+    public Optional<Set<Student>> findMatches(Model model) {
+        return Optional.of(model.findStudentsByLessonTime(lessonTime));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof LessonTimeOverlapsPredicate)) {
+            return false;
+        }
+
+        LessonTimeOverlapsPredicate otherLessonTimeOverlapsPredicate = (LessonTimeOverlapsPredicate) other;
+        return lessonTime.equals(otherLessonTimeOverlapsPredicate.lessonTime);
+    }
+
+    @Override
+    public int hashCode() {
+        return lessonTime.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("lessonTime", lessonTime).toString();
+    }
+}
@@ -1,21 +1,53 @@
 package seedu.address.model.student.predicate;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import seedu.address.model.Model;
+import seedu.address.model.student.Level;
 import seedu.address.model.student.Student;
 
 /**
  * Tests that a {@code Student}'s {@code Level} matches any of the keywords given.
  */
 public class LevelContainsKeywordsPredicate extends ContainsKeywordsPredicate {
+    private final Set<Level> levels;
+
+    /**
+     * Constructs a predicate matching students with any of the levels named by {@code keywords}.
+     * Keywords that do not name a level match no students.
+     */
     public LevelContainsKeywordsPredicate(List<String> keywords) {
         super(keywords);
+        this.levels = keywords.stream()
+                .filter(Level::isValidLevelName)
+                .map(Level::of)
+                .filter(level -> keywords.contains(level.levelName))
+                .collect(Collectors.toSet());
     }
 
     @Override
     public boolean test(Student student) {
-        return keywords.stream()
-                .anyMatch(keyword -> student.getLevel().levelName.equals(keyword));
+        return levels.contains(student.getLevel());
+    }
+
+    /**
+     * Looks up the matching students in the level buckets of {@code model}, instead of comparing the level of every
+     * student.
+     */
+    @Override
+    public Optional<Set<Student>> findMatches(Model model) {
+        if (levels.size() == 1) {
+            return Optional.of(model.findStudentsByLevel(levels.iterator().next()));
+        }
+
+        Set<Student> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        levels.forEach(level -> matches.addAll(model.findStudentsByLevel(level)));
+        return Optional.of(matches);
     }
 
     @Override
@@ -1,8 +1,11 @@
 package seedu.address.model.student.predicate;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import seedu.address.commons.util.StringUtil;
+import seedu.address.model.Model;
 import seedu.address.model.student.Student;
 
 /**
@@ -19,6 +22,15 @@ public class NameContainsKeywordsPredicate extends ContainsKeywordsPredicate {
                 .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(student.getName().fullName, keyword));
     }
 
+    /**
+     * Looks up the matching students in the name index of {@code model}, instead of splitting the name of every
+     * student.
+     */
+    @Override
+    public Optional<Set<Student>> findMatches(Model model) {
+        return Optional.of(model.findStudentsByNameTokens(keywords));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
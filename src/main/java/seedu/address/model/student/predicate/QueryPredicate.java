@@ -0,0 +1,46 @@
+package seedu.address.model.student.predicate;
+
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.Model;
+import seedu.address.model.student.Student;
+
+/**
+ * A predicate on students that can be used to find students in a {@code Model}, possibly with the help of the
+ * indexes kept by the model.
+ */
+public interface QueryPredicate extends Predicate<Student> {
+
+    /**
+     * Returns the students of {@code model} accepted by this predicate if they can be looked up in the indexes kept
+     * by {@code model}, or an empty {@code Optional} if every student has to be tested instead.
+     * The returned set compares students by identity, and must not be modified.
+     */
+    default Optional<Set<Student>> findMatches(Model model) {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns a predicate that accepts the same students of {@code model} as this predicate, but finds them once with
+     * {@link Model#findMatchingStudents(QueryPredicate)} instead of testing every student, so that a repeated query is
+     * answered from the cache of {@code model}. Once the address book of {@code model} is modified, the returned
+     * predicate falls back to testing each student like this predicate does.
+     *
+     * The returned predicates are equal for equal queries in the same version of the address book, so implementations
+     * must override {@code equals} and {@code hashCode}.
+     */
+    default Predicate<Student> toIndexedPredicate(Model model) {
+        return new IndexedPredicate(this, model);
+    }
+
+    /**
+     * Returns the order in which to list the students of {@code model} accepted by this predicate, most relevant
+     * first, or an empty {@code Optional} if they have no relevance and are listed in the order of the address book.
+     */
+    default Optional<Comparator<Student>> rankMatches(Model model) {
+        return Optional.empty();
+    }
+}
@@ -1,24 +1,55 @@
 package seedu.address.model.student.predicate;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.model.Model;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.Subject;
 
 /**
  * Tests that a {@code Student}'s {@code Subject} matches any of the keywords given.
  */
 public class SubjectContainsKeywordsPredicate extends ContainsKeywordsPredicate {
+    private final Set<Subject> subjects;
+    private final int subjectMask;
+
+    /**
+     * Constructs a predicate matching students taking any of the subjects named by {@code keywords}.
+     * Keywords that do not name a subject match no students.
+     */
     public SubjectContainsKeywordsPredicate(List<String> keywords) {
         super(keywords);
+        this.subjects = keywords.stream()
+                .filter(Subject::isValidSubjectName)
+                .map(Subject::of)
+                .collect(Collectors.toSet());
+        this.subjectMask = Subject.toMask(subjects);
     }
 
     @Override
     public boolean test(Student student) {
-        return keywords.stream()
-                .anyMatch(keyword -> student.getSubjects().stream().anyMatch(
-                        subject -> StringUtil.containsWordIgnoreCase(
-                                subject.subjectName, keyword)));
+        return (student.getSubjectMask() & subjectMask) != 0;
+    }
+
+    /**
+     * Looks up the matching students in the subject bitmaps of {@code model}.
+     */
+    @Override
+    public Optional<Set<Student>> findMatches(Model model) {
+        return Optional.of(model.findStudentsBySubjects(subjects));
+    }
+
+    /**
+     * Returns this predicate, as testing the subjects of a student is cheaper than looking the student up in the
+     * matching students.
+     */
+    @Override
+    public Predicate<Student> toIndexedPredicate(Model model) {
+        return this;
     }
 
     @Override
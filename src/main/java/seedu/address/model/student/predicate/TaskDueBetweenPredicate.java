@@ -0,0 +1,77 @@
+package seedu.address.model.student.predicate;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.task.Task;
+
+/**
+ * Tests that a {@code Student} has a {@code Task} due on or after a first day and on or before a last day.
+ */
+public class TaskDueBetweenPredicate implements QueryPredicate {
+    private final LocalDate from;
+    private final LocalDate to;
+
+    /**
+     * Constructs a predicate matching students with a task due from {@code from} to {@code to}, both inclusive.
+     */
+    public TaskDueBetweenPredicate(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        checkArgument(!from.isAfter(to), "First day must not be after the last day");
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public boolean test(Student student) {
+        for (Task task : student.getTaskList()) {
+            LocalDate deadline = task.getTaskDeadline().taskDeadline;
+            if (!deadline.isBefore(from) && !deadline.isAfter(to)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Looks up the matching students in the deadline index of {@code model}, instead of examining the tasks of every
+     * student.
+     */
+    @Override
+    public Optional<Set<Student>> findMatches(Model model) {
+        return Optional.of(model.findStudentsWithTasksDueBetween(from, to));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TaskDueBetweenPredicate)) {
+            return false;
+        }
+
+        TaskDueBetweenPredicate otherTaskDueBetweenPredicate = (TaskDueBetweenPredicate) other;
+        return from.equals(otherTaskDueBetweenPredicate.from)
+                && to.equals(otherTaskDueBetweenPredicate.to);
+    }
+
+    @Override
+    public int hashCode() {
+        return from.hashCode() * 31 + to.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("from", from).add("to", to).toString();
+    }
+}
@@ -1,17 +1,42 @@
 package seedu.address.model.student.predicate;
 
-import java.util.function.Predicate;
+import java.util.Optional;
+import java.util.Set;
 
+import seedu.address.model.Model;
 import seedu.address.model.student.Student;
 
 /**
- * Tests that a {@code Student}'s {@code TaskList} is not empty.
+ * Tests that a {@code Student}'s {@code TaskList} is not empty, i.e. that the student has pending tasks.
  */
-public class TaskListNotEmptyPredicate implements Predicate<Student> {
+public class TaskListNotEmptyPredicate implements QueryPredicate {
 
     @Override
     public boolean test(Student student) {
         return student.getTaskList().size() > 0;
     }
 
+    /**
+     * Scans the task counts in the student table of {@code model}.
+     */
+    @Override
+    public Optional<Set<Student>> findMatches(Model model) {
+        return Optional.of(model.findStudentsWithTasks());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || other instanceof TaskListNotEmptyPredicate;
+    }
+
+    @Override
+    public int hashCode() {
+        return TaskListNotEmptyPredicate.class.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return TaskListNotEmptyPredicate.class.getCanonicalName();
+    }
+
 }
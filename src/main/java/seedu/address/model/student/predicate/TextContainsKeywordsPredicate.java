@@ -0,0 +1,103 @@
+package seedu.address.model.student.predicate;
+
+import java.util.AbstractSet;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.Model;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.task.Task;
+
+/**
+ * Tests that a {@code Student}'s {@code Note} or task descriptions contain any of the keywords given as a whole word.
+ * Keywords are matched against the words given by {@link StringUtil#toWords(String)}, so they should be in lower case.
+ */
+public class TextContainsKeywordsPredicate extends ContainsKeywordsPredicate {
+    public TextContainsKeywordsPredicate(List<String> keywords) {
+        super(keywords);
+    }
+
+    @Override
+    public boolean test(Student student) {
+        if (StringUtil.toWords(student.getNote().value).stream().anyMatch(keywords::contains)) {
+            return true;
+        }
+        for (Task task : student.getTaskList()) {
+            if (StringUtil.toWords(task.getTaskDescription().taskDescription).stream().anyMatch(keywords::contains)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Looks up the matching students in the full-text index of {@code model}, instead of splitting the note and task
+     * descriptions of every student.
+     */
+    @Override
+    public Optional<Set<Student>> findMatches(Model model) {
+        return Optional.of(new WordMatches(model.findStudentsByWords(keywords)));
+    }
+
+    /**
+     * Ranks the matching students by the number of times the keywords occur in their note and task descriptions, when
+     * the students are found. Students added or changed after that are ranked last.
+     * The counts are taken from the students already found for this predicate in the cache of {@code model}, so the
+     * full-text index is only looked up again if they are no longer cached.
+     */
+    @Override
+    public Optional<Comparator<Student>> rankMatches(Model model) {
+        Map<Student, Integer> counts = model.findIndexedStudents(this)
+                .filter(WordMatches.class::isInstance)
+                .map(matches -> ((WordMatches) matches).counts)
+                .orElseGet(() -> model.findStudentsByWords(keywords));
+        return Optional.of((first, second) ->
+                Integer.compare(counts.getOrDefault(second, 0), counts.getOrDefault(first, 0)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TextContainsKeywordsPredicate)) {
+            return false;
+        }
+
+        TextContainsKeywordsPredicate otherTextContainsKeywordsPredicate = (TextContainsKeywordsPredicate) other;
+        return keywords.equals(otherTextContainsKeywordsPredicate.keywords);
+    }
+
+    /**
+     * The students matching the keywords, together with the number of times the keywords occur in each of them.
+     */
+    private static class WordMatches extends AbstractSet<Student> {
+        private final Map<Student, Integer> counts;
+
+        WordMatches(Map<Student, Integer> counts) {
+            this.counts = counts;
+        }
+
+        @Override
+        public boolean contains(Object student) {
+            return counts.containsKey(student);
+        }
+
+        @Override
+        public Iterator<Student> iterator() {
+            return counts.keySet().iterator();
+        }
+
+        @Override
+        public int size() {
+            return counts.size();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.address.model.student.task;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.student.Student;
+
+/**
+ * Represents a task in the address book together with the student it belongs to.
+ * Guarantees: immutable; details are present and not null
+ */
+public class DueTask {
+    private final Student student;
+    private final Task task;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public DueTask(Student student, Task task) {
+        requireAllNonNull(student, task);
+        this.student = student;
+        this.task = task;
+    }
+
+    public Student getStudent() {
+        return student;
+    }
+
+    public Task getTask() {
+        return task;
+    }
+
+    /**
+     * Returns description of the task and its student to be displayed to user.
+     */
+    public String toDescription() {
+        return task.toDescription() + " for " + student.getName();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof DueTask)) {
+            return false;
+        }
+
+        DueTask otherDueTask = (DueTask) other;
+        return student.equals(otherDueTask.student)
+                && task.equals(otherDueTask.task);
+    }
+
+    @Override
+    public int hashCode() {
+        return student.hashCode() * 31 + task.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("student", student.getName())
+                .add("task", task)
+                .toString();
+    }
+}
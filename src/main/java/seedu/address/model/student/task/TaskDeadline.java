@@ -10,12 +10,15 @@ import java.time.format.DateTimeParseException;
 /**
  * Represents a Task's taskDeadline in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidTaskDeadline(String)}
+ *
+ * The deadline is also kept as a day counted from the epoch, so that deadlines are compared as {@code int}s.
  */
 public class TaskDeadline {
     public static final String MESSAGE_CONSTRAINTS =
             "Task deadline should be in the format YYYY-MM-DD or date provided is invalid.";
     private static final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     public final LocalDate taskDeadline;
+    private final int epochDay;
 
     /**
      * Constucts a {@code TaskDeadline}
@@ -25,6 +28,25 @@ public class TaskDeadline {
         requireNonNull(taskDeadline);
         checkArgument(isValidTaskDeadline(taskDeadline), MESSAGE_CONSTRAINTS);
         this.taskDeadline = LocalDate.parse(taskDeadline, formatter);
+        this.epochDay = Math.toIntExact(this.taskDeadline.toEpochDay());
+    }
+
+    private TaskDeadline(LocalDate taskDeadline) {
+        requireNonNull(taskDeadline);
+        this.taskDeadline = taskDeadline;
+        this.epochDay = Math.toIntExact(taskDeadline.toEpochDay());
+    }
+
+    /**
+     * Returns the {@code TaskDeadline} on the given day, counted from the epoch as in
+     * {@link LocalDate#toEpochDay()}.
+     */
+    public static TaskDeadline ofEpochDay(long epochDay) {
+        return new TaskDeadline(LocalDate.ofEpochDay(epochDay));
+    }
+
+    public int toEpochDay() {
+        return epochDay;
     }
 
     @Override
@@ -38,7 +60,7 @@ public class TaskDeadline {
         }
 
         TaskDeadline otherTaskDeadline = (TaskDeadline) other;
-        return taskDeadline.equals(otherTaskDeadline.taskDeadline);
+        return epochDay == otherTaskDeadline.epochDay;
     }
 
     /**
@@ -62,7 +84,7 @@ public class TaskDeadline {
 
     @Override
     public int hashCode() {
-        return taskDeadline.hashCode();
+        return epochDay;
     }
 
     @Override
@@ -76,6 +98,6 @@ public class TaskDeadline {
     }
 
     public int compareTo(TaskDeadline other) {
-        return taskDeadline.compareTo(other.taskDeadline);
+        return Integer.compare(epochDay, other.epochDay);
     }
 }
@@ -1,10 +1,15 @@
 package seedu.address.model.student.task;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -13,19 +18,34 @@ import seedu.address.model.student.exceptions.TaskNotFoundException;
 import seedu.address.storage.JsonAdaptedTask;
 
 /**
- * Represents a Student's task list in the address book.
+ * Represents a Student's task list in the address book, sorted by deadline. Tasks with the same deadline are kept in
+ * the order they were added.
  * Guarantees: is always valid
+ *
+ * The tasks are held in an immutable treap, a binary search tree on the deadlines that is kept balanced by giving each
+ * node a random priority that must not exceed the priority of its parent. Every node also records the size of its
+ * subtree, so tasks can be looked up by position. A modification copies only the nodes on the path to the changed
+ * task and shares the rest of the tree, so copying a task list takes constant time and adding, removing or updating a
+ * single task takes logarithmic time on average, however many copies share the tree. A whole list of tasks is sorted
+ * once and built into a balanced tree in linear time instead.
  */
 public class TaskList implements Iterable<Task> {
-    private final ObservableList<Task> tasks = FXCollections.observableArrayList();
-    private final ObservableList<Task> unmodifiableTasks =
-            FXCollections.unmodifiableObservableList(tasks);
+    /** The range of priorities given to the nodes at each depth of a tree built from a whole list of tasks. */
+    private static final long PRIORITY_BAND = 1L << (Integer.SIZE - 5);
+
+    private Node root;
+
+    /**
+     * Creates an empty task list.
+     */
+    public TaskList() {
+    }
 
     /**
-     * Sorts task by deadline, earlier tasks are placed at the front
+     * Creates a task list of {@code tasks}, sorted by deadline.
      */
-    public void sortByDeadline() {
-        tasks.sort(Task::compareTo);
+    public TaskList(List<Task> tasks) {
+        setTasks(tasks);
     }
 
     /**
@@ -34,24 +54,35 @@ public class TaskList implements Iterable<Task> {
      * @return true if the task list contains no tasks, false otherwise.
      */
     public boolean isEmpty() {
-        return tasks.isEmpty();
+        return root == null;
     }
 
     /**
-     * Adds a task to the list and sorts it by date.
+     * Adds a task to the list, after the tasks with the same deadline.
      */
     public void add(Task toAdd) {
         requireNonNull(toAdd);
-        tasks.add(toAdd);
-        sortByDeadline();
+        root = insert(root, new Node(toAdd));
     }
 
     /**
      * Gets a {@code Task} from the list with {@code index}
      * @return the Task at the specified position in this TaskList
+     * @throws IndexOutOfBoundsException if the {@code index} is out of range (index < 0 || index >= size()).
      */
     public Task get(int index) {
-        return tasks.get(index);
+        checkIndex(index);
+        Node node = root;
+        int remaining = index;
+        while (remaining != size(node.left)) {
+            if (remaining < size(node.left)) {
+                node = node.left;
+            } else {
+                remaining -= size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return node.task;
     }
 
     /**
@@ -59,9 +90,11 @@ public class TaskList implements Iterable<Task> {
      */
     public void remove(Task toRemove) {
         requireNonNull(toRemove);
-        if (!tasks.remove(toRemove)) {
+        int index = indexOf(root, toRemove);
+        if (index < 0) {
             throw new TaskNotFoundException();
         }
+        root = removeAt(root, index);
     }
 
     /**
@@ -74,20 +107,10 @@ public class TaskList implements Iterable<Task> {
      */
     public TaskList updateTask(Index index, Task updatedTask) {
         requireNonNull(updatedTask);
+        checkIndex(index.getZeroBased());
 
-        if (index.getZeroBased() < 0 || index.getZeroBased() >= tasks.size()) {
-            throw new IndexOutOfBoundsException("Index out of range: " + index.getZeroBased());
-        }
-
-        // Create a copy of the current TaskList
-        TaskList updatedTaskList = this.copy();
-
-        // Replace the task at the given index with the updatedTask
-        updatedTaskList.tasks.set(index.getZeroBased(), updatedTask);
-
-        // Optionally sort by deadline again, if necessary
-        updatedTaskList.sortByDeadline();
-
+        TaskList updatedTaskList = new TaskList();
+        updatedTaskList.root = insert(removeAt(root, index.getZeroBased()), new Node(updatedTask));
         return updatedTaskList;
     }
 
@@ -95,20 +118,26 @@ public class TaskList implements Iterable<Task> {
      * Returns the size of the task list.
      */
     public int size() {
-        return this.tasks.size();
+        return size(root);
     }
 
+    /**
+     * Replaces the contents of this list with the tasks of {@code replacement}, sharing them with it.
+     */
     public void setTasks(TaskList replacement) {
         requireNonNull(replacement);
-        tasks.setAll(replacement.tasks);
+        root = replacement.root;
     }
 
     /**
-     * Replaces the contents of this list with {@code replacementTasks}.
+     * Replaces the contents of this list with {@code replacementTasks}, sorted by deadline. Tasks with the same
+     * deadline are kept in the order given.
      */
     public void setTasks(List<Task> replacementTasks) {
-        requireNonNull(replacementTasks);
-        tasks.setAll(replacementTasks);
+        requireAllNonNull(replacementTasks);
+        List<Task> sortedTasks = new ArrayList<>(replacementTasks);
+        sortedTasks.sort(Task::compareTo);
+        root = build(sortedTasks, 0, sortedTasks.size(), 0);
     }
 
     /**
@@ -119,26 +148,49 @@ public class TaskList implements Iterable<Task> {
      */
     public boolean contains(Task toCheck) {
         requireNonNull(toCheck);
-        return tasks.contains(toCheck);
+        return indexOf(root, toCheck) >= 0;
     }
 
     /**
-     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * Returns the tasks in the list as an unmodifiable {@code ObservableList}. Later modifications of this list are
+     * not reflected in the returned list.
      */
     public ObservableList<Task> asUnmodifiableObservableList() {
-        return unmodifiableTasks;
+        return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(toList()));
     }
 
     /**
      * Converts task list into something Jackson can use.
      */
     public List<JsonAdaptedTask> getjsonAdaptedTaskList() {
-        return tasks.stream().map(JsonAdaptedTask::new).toList();
+        return toList().stream().map(JsonAdaptedTask::new).toList();
     }
 
     @Override
     public Iterator<Task> iterator() {
-        return tasks.iterator();
+        return new Iterator<>() {
+            private final Deque<Node> pending = new ArrayDeque<>();
+            private Node next = root;
+
+            @Override
+            public boolean hasNext() {
+                return next != null || !pending.isEmpty();
+            }
+
+            @Override
+            public Task next() {
+                while (next != null) {
+                    pending.push(next);
+                    next = next.left;
+                }
+                if (pending.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node node = pending.pop();
+                next = node.right;
+                return node.task;
+            }
+        };
     }
 
     @Override
@@ -152,19 +204,20 @@ public class TaskList implements Iterable<Task> {
         }
 
         TaskList otherTaskList = (TaskList) other;
-        return tasks.equals(otherTaskList.tasks);
+        return root == otherTaskList.root || toList().equals(otherTaskList.toList());
     }
 
     @Override
     public int hashCode() {
-        return tasks.hashCode();
+        return toList().hashCode();
     }
 
     @Override
     public String toString() {
         List<String> result = new ArrayList<>();
+        List<Task> tasks = toList();
 
-        for (int i = 0; i < this.tasks.size(); i++) {
+        for (int i = 0; i < tasks.size(); i++) {
             result.add(String.valueOf(i + 1) + ". " + tasks.get(i).toString());
         }
 
@@ -176,8 +229,9 @@ public class TaskList implements Iterable<Task> {
      */
     public String toDescription() {
         List<String> result = new ArrayList<>();
+        List<Task> tasks = toList();
 
-        for (int i = 0; i < this.tasks.size(); i++) {
+        for (int i = 0; i < tasks.size(); i++) {
             result.add(String.valueOf(i + 1) + ". " + tasks.get(i).toDescription());
         }
 
@@ -186,15 +240,163 @@ public class TaskList implements Iterable<Task> {
 
     /**
      * Creates and returns a copy of the current TaskList.
-     * This performs a deep copy of the tasks.
+     * As the tasks are immutable, the copy shares them with this list, and modifying either list does not affect the
+     * other.
      *
      * @return a new TaskList that is a copy of the current one.
      */
     public TaskList copy() {
         TaskList copiedTaskList = new TaskList();
-        for (Task task : tasks) {
-            copiedTaskList.add(new Task(task.getTaskDescription(), task.getTaskDeadline()));
-        }
+        copiedTaskList.root = root;
         return copiedTaskList;
     }
+
+    private List<Task> toList() {
+        List<Task> tasks = new ArrayList<>(size());
+        forEach(tasks::add);
+        return tasks;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index out of range: " + index);
+        }
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * Returns a balanced tree of {@code sortedTasks} from {@code from} to {@code to}, exclusive, with its root at
+     * {@code depth}. Each node is given a random priority within a band that is lower the deeper the node is, so that
+     * no node has a higher priority than its parent.
+     */
+    private static Node build(List<Task> sortedTasks, int from, int to, int depth) {
+        if (from >= to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        Node left = build(sortedTasks, from, middle, depth + 1);
+        Node right = build(sortedTasks, middle + 1, to, depth + 1);
+        int priority = (int) (Integer.MAX_VALUE - depth * PRIORITY_BAND
+                - ThreadLocalRandom.current().nextLong(PRIORITY_BAND));
+        return new Node(sortedTasks.get(middle), priority, left, right);
+    }
+
+    /**
+     * Returns the tree {@code root} with {@code toInsert} added after the tasks with the same or an earlier deadline.
+     */
+    private static Node insert(Node root, Node toInsert) {
+        if (root == null) {
+            return toInsert;
+        }
+        if (toInsert.priority > root.priority) {
+            Node[] parts = split(root, toInsert.task);
+            return toInsert.withChildren(parts[0], parts[1]);
+        }
+        return toInsert.task.compareTo(root.task) < 0
+                ? root.withChildren(insert(root.left, toInsert), root.right)
+                : root.withChildren(root.left, insert(root.right, toInsert));
+    }
+
+    /**
+     * Splits the tree {@code root} into the tasks due on or before the deadline of {@code task}, and those due after.
+     */
+    private static Node[] split(Node root, Task task) {
+        if (root == null) {
+            return new Node[] {null, null};
+        }
+        if (task.compareTo(root.task) < 0) {
+            Node[] parts = split(root.left, task);
+            return new Node[] {parts[0], root.withChildren(parts[1], root.right)};
+        }
+        Node[] parts = split(root.right, task);
+        return new Node[] {root.withChildren(root.left, parts[0]), parts[1]};
+    }
+
+    /**
+     * Returns the tree {@code root} without the task at {@code index}.
+     */
+    private static Node removeAt(Node root, int index) {
+        int leftSize = size(root.left);
+        if (index < leftSize) {
+            return root.withChildren(removeAt(root.left, index), root.right);
+        }
+        if (index > leftSize) {
+            return root.withChildren(root.left, removeAt(root.right, index - leftSize - 1));
+        }
+        return merge(root.left, root.right);
+    }
+
+    /**
+     * Returns a tree of the tasks of {@code left} followed by the tasks of {@code right}.
+     */
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        return left.priority > right.priority
+                ? left.withChildren(left.left, merge(left.right, right))
+                : right.withChildren(merge(left, right.left), right.right);
+    }
+
+    /**
+     * Returns the position of the first task in the tree {@code root} equal to {@code task}, or -1 if there is none.
+     * Only the tasks with the same deadline as {@code task} are compared with it.
+     */
+    private static int indexOf(Node root, Task task) {
+        if (root == null) {
+            return -1;
+        }
+
+        int comparison = task.compareTo(root.task);
+        if (comparison < 0) {
+            return indexOf(root.left, task);
+        }
+        if (comparison == 0) {
+            int leftIndex = indexOf(root.left, task);
+            if (leftIndex >= 0) {
+                return leftIndex;
+            }
+            if (root.task.equals(task)) {
+                return size(root.left);
+            }
+        }
+        int rightIndex = indexOf(root.right, task);
+        return rightIndex < 0 ? -1 : size(root.left) + 1 + rightIndex;
+    }
+
+    /**
+     * An immutable node of the treap, holding a task and the size of its subtree.
+     */
+    private static class Node {
+        private final Task task;
+        private final int priority;
+        private final Node left;
+        private final Node right;
+        private final int size;
+
+        Node(Task task) {
+            this(task, ThreadLocalRandom.current().nextInt(), null, null);
+        }
+
+        private Node(Task task, int priority, Node left, Node right) {
+            this.task = task;
+            this.priority = priority;
+            this.left = left;
+            this.right = right;
+            this.size = size(left) + 1 + size(right);
+        }
+
+        /**
+         * Returns a copy of this node with the given children.
+         */
+        Node withChildren(Node left, Node right) {
+            return new Node(task, priority, left, right);
+        }
+    }
 }
@@ -0,0 +1,50 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.ObservableList;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.student.Student;
+
+/**
+ * An address book saved as a snapshot by {@link JournaledAddressBookStorage}, along with the epoch of the snapshot.
+ * The data file formats save the epoch along with the students, and read an address book saved with an epoch back
+ * as this class, so that a journal can tell whether the snapshot it was started on is the one on disk.
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    /** The epoch of address books that were not saved as a snapshot of a journal. */
+    static final long NO_EPOCH = 0;
+
+    private final ReadOnlyAddressBook addressBook;
+    private final long epoch;
+
+    private AddressBookSnapshot(ReadOnlyAddressBook addressBook, long epoch) {
+        this.addressBook = requireNonNull(addressBook);
+        this.epoch = epoch;
+    }
+
+    /**
+     * Returns {@code addressBook} as the snapshot of {@code epoch}, or as it is if {@code epoch} is {@link #NO_EPOCH}.
+     */
+    static ReadOnlyAddressBook withEpoch(ReadOnlyAddressBook addressBook, long epoch) {
+        return epoch == NO_EPOCH ? addressBook : new AddressBookSnapshot(addressBook, epoch);
+    }
+
+    /**
+     * Returns the epoch {@code addressBook} was saved or read with, or {@link #NO_EPOCH} if it has none.
+     */
+    static long epochOf(ReadOnlyAddressBook addressBook) {
+        return addressBook instanceof AddressBookSnapshot ? ((AddressBookSnapshot) addressBook).epoch : NO_EPOCH;
+    }
+
+    @Override
+    public ObservableList<Student> getStudentList() {
+        return addressBook.getStudentList();
+    }
+
+    @Override
+    public long getVersion() {
+        return addressBook.getVersion();
+    }
+}
@@ -42,4 +42,19 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Blocks until every earlier save has been fully written to the storage.
+     * @throws IOException if there was any problem writing any of those saves.
+     */
+    void flush() throws IOException;
+
+    /**
+     * Returns whether every earlier save has been fully written to the storage, without waiting for saves still
+     * being written. Storages that write each save before returning have always written every earlier save.
+     * @throws IOException if there was any problem writing an earlier save.
+     */
+    default boolean checkSaved() throws IOException {
+        return true;
+    }
+
 }
@@ -0,0 +1,215 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.student.Student;
+
+/**
+ * An {@code AddressBookStorage} that writes saves to another {@code AddressBookStorage} on a single background
+ * writer thread, so that the caller does not wait for the write.
+ *
+ * Each save takes an immutable snapshot of the address book. Saves that arrive while a write is in progress are
+ * coalesced, so only the latest snapshot is written once the writer is free. A failed write is reported as a
+ * {@link BackgroundSaveException} by the next call to {@link #saveAddressBook(ReadOnlyAddressBook)}, {@link #flush()}
+ * or {@link #checkSaved()}. The snapshot that failed to be written is
+ * kept until a later snapshot replaces it, and {@link #flush()} writes it again, so a failure never loses changes.
+ */
+public class AsyncAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncAddressBookStorage.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "addressbook-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private ReadOnlyAddressBook pendingSnapshot;
+    private ReadOnlyAddressBook failedSnapshot;
+    private boolean isWriting;
+    private IOException writeFailure;
+
+    /**
+     * Creates an {@code AsyncAddressBookStorage} that writes to {@code addressBookStorage}.
+     */
+    public AsyncAddressBookStorage(AddressBookStorage addressBookStorage) {
+        requireNonNull(addressBookStorage);
+        this.addressBookStorage = addressBookStorage;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return addressBookStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return addressBookStorage.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return addressBookStorage.readAddressBook(filePath);
+    }
+
+    /**
+     * Schedules a snapshot of {@code addressBook} to be written, and returns without waiting for the write.
+     * The snapshot is scheduled even if an earlier write failed, and replaces the snapshot that failed to be written.
+     *
+     * @throws IOException if an earlier write failed.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        schedule(new Snapshot(addressBook));
+        throwWriteFailure();
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath} once all scheduled saves have been written.
+     * Saves to other file paths are written before this method returns.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (filePath.equals(getAddressBookFilePath())) {
+            saveAddressBook(addressBook);
+            return;
+        }
+
+        flush();
+        addressBookStorage.saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Waits until all scheduled saves have been written, writing again the snapshot of an earlier failed write.
+     *
+     * @throws IOException if a write failed, in which case its snapshot is written again by the next flush.
+     */
+    @Override
+    public void flush() throws IOException {
+        synchronized (this) {
+            if (failedSnapshot != null && !isWriting) {
+                writeFailure = null;
+                schedule(failedSnapshot);
+            }
+            while (isWriting) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while waiting for the address book to be saved", e);
+                }
+            }
+            throwWriteFailure();
+        }
+        addressBookStorage.flush();
+    }
+
+    /**
+     * Returns whether every scheduled save has been written, without waiting for the write in progress.
+     *
+     * @throws IOException if a write failed, in which case its snapshot is written again by the next flush.
+     */
+    @Override
+    public synchronized boolean checkSaved() throws IOException {
+        throwWriteFailure();
+        return !isWriting && failedSnapshot == null;
+    }
+
+    /**
+     * Schedules {@code snapshot} to be written, replacing any snapshot not yet written or that failed to be written.
+     */
+    private void schedule(ReadOnlyAddressBook snapshot) {
+        assert Thread.holdsLock(this);
+
+        pendingSnapshot = snapshot;
+        failedSnapshot = null;
+        if (!isWriting) {
+            isWriting = true;
+            writer.execute(this::writePendingSnapshots);
+        }
+    }
+
+    /**
+     * Writes the latest pending snapshot until there are none left.
+     * Runs on the writer thread.
+     */
+    private void writePendingSnapshots() {
+        while (true) {
+            ReadOnlyAddressBook snapshot;
+            synchronized (this) {
+                snapshot = pendingSnapshot;
+                pendingSnapshot = null;
+                if (snapshot == null) {
+                    isWriting = false;
+                    notifyAll();
+                    return;
+                }
+            }
+
+            try {
+                addressBookStorage.saveAddressBook(snapshot);
+            } catch (IOException | RuntimeException e) {
+                logger.warning("Failed to save address book to " + getAddressBookFilePath() + ": " + e);
+                synchronized (this) {
+                    writeFailure = new BackgroundSaveException(snapshot.getVersion(),
+                            e instanceof IOException ? (IOException) e : new IOException(e));
+                    if (pendingSnapshot == null) {
+                        failedSnapshot = snapshot;
+                    }
+                }
+            }
+        }
+    }
+
+    private void throwWriteFailure() throws IOException {
+        assert Thread.holdsLock(this);
+
+        if (writeFailure != null) {
+            IOException failure = writeFailure;
+            writeFailure = null;
+            throw failure;
+        }
+    }
+
+    /**
+     * An immutable copy of an address book at the time it was saved.
+     */
+    private static class Snapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Student> students;
+        private final long version;
+
+        Snapshot(ReadOnlyAddressBook addressBook) {
+            this.students = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(addressBook.getStudentList()));
+            this.version = addressBook.getVersion();
+        }
+
+        @Override
+        public ObservableList<Student> getStudentList() {
+            return students;
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+    }
+
+}
@@ -0,0 +1,26 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+
+/**
+ * Represents a save that failed while being written in the background, after the call that scheduled it returned.
+ */
+public class BackgroundSaveException extends IOException {
+
+    private final long version;
+
+    /**
+     * Creates a {@code BackgroundSaveException} for the save of the address book at {@code version}.
+     */
+    public BackgroundSaveException(long version, IOException cause) {
+        super(cause.getMessage(), cause);
+        this.version = version;
+    }
+
+    /**
+     * Returns the version of the address book whose save failed.
+     */
+    public long getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,292 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.student.Address;
+import seedu.address.model.student.EmergencyContact;
+import seedu.address.model.student.LessonTime;
+import seedu.address.model.student.Level;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Note;
+import seedu.address.model.student.Phone;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.Subject;
+import seedu.address.model.student.task.Task;
+import seedu.address.model.student.task.TaskDeadline;
+import seedu.address.model.student.task.TaskDescription;
+import seedu.address.model.student.task.TaskList;
+
+/**
+ * A class to access AddressBook data stored as a compact binary snapshot on the hard disk.
+ *
+ * The snapshot starts with a magic number, a format version and the epoch of the snapshot, followed by the students
+ * in order. Files of the first format version have no epoch. Strings are
+ * stored as length-prefixed UTF-8, subjects, levels and lesson days as their enum ordinals, lesson times as minutes
+ * of the day, and task deadlines as epoch days.
+ *
+ * Data files without the binary header are read as JSON, so that existing JSON data files can be imported by
+ * switching the data file format.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary data file has unsupported format version %d";
+    public static final String MESSAGE_INVALID_LENGTH = "Binary data file has an invalid length: %d";
+    public static final String MESSAGE_INVALID_TIME = "Binary data file has an invalid time of day: %d minutes";
+
+    static final int MAGIC = 0x45444D42;
+    static final int FORMAT_VERSION = 2;
+    /** The format version before snapshot epochs were saved. */
+    static final int FORMAT_VERSION_WITHOUT_EPOCH = 1;
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            if (!hasBinaryHeader(in)) {
+                logger.info("Data file " + filePath + " is not a binary snapshot, reading it as JSON");
+                return new JsonAddressBookStorage(filePath).readAddressBook(filePath);
+            }
+            return Optional.of(readStudents(in));
+        } catch (IllegalValueException | IllegalArgumentException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeAtomicallyWithBackup(filePath, fileOut -> {
+            DataOutputStream out = new DataOutputStream(fileOut);
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(AddressBookSnapshot.epochOf(addressBook));
+            List<Student> students = addressBook.getStudentList();
+            out.writeInt(students.size());
+            for (Student student : students) {
+                writeStudent(out, student);
+            }
+        });
+    }
+
+    /**
+     * Does nothing, as every save is written before {@link #saveAddressBook} returns.
+     */
+    @Override
+    public void flush() {
+    }
+
+    /**
+     * Returns true if {@code in} starts with the binary snapshot header, leaving {@code in} positioned after the
+     * header if it does and at the start otherwise.
+     */
+    private static boolean hasBinaryHeader(InputStream in) throws IOException {
+        in.mark(Integer.BYTES);
+        byte[] header = in.readNBytes(Integer.BYTES);
+        if (header.length == Integer.BYTES && ByteBuffer.wrap(header).getInt() == MAGIC) {
+            return true;
+        }
+        in.reset();
+        return false;
+    }
+
+    private static ReadOnlyAddressBook readStudents(DataInputStream in) throws IOException, IllegalValueException {
+        int version = in.readInt();
+        if (version != FORMAT_VERSION && version != FORMAT_VERSION_WITHOUT_EPOCH) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        long epoch = version == FORMAT_VERSION ? in.readLong() : AddressBookSnapshot.NO_EPOCH;
+
+        int count = readLength(in);
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < count; i++) {
+            Student student = readStudent(in);
+            if (addressBook.hasStudent(student)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_STUDENT);
+            }
+            addressBook.addStudent(student);
+        }
+        return AddressBookSnapshot.withEpoch(addressBook, epoch);
+    }
+
+    private static void writeStudent(DataOutputStream out, Student student) throws IOException {
+        writeString(out, student.getName().fullName);
+        writeString(out, student.getPhone().value);
+        writeString(out, student.getEmergencyContact().value);
+        writeString(out, student.getAddress().value);
+        writeString(out, student.getNote().value);
+
+        writeLevelAndSubjects(out, student);
+        writeTasksAndLessonTimes(out, student);
+    }
+
+    static void writeLevelAndSubjects(DataOutputStream out, Student student) throws IOException {
+        out.writeByte(student.getLevel().getYearOrdinal());
+        out.writeByte(student.getLevel().getTrackOrdinal());
+
+        out.writeInt(student.getSubjects().size());
+        for (Subject subject : student.getSubjects()) {
+            out.writeByte(subject.getOrdinal());
+        }
+    }
+
+    static void writeTasksAndLessonTimes(DataOutputStream out, Student student) throws IOException {
+        out.writeInt(student.getTaskList().size());
+        for (Task task : student.getTaskList()) {
+            writeString(out, task.getTaskDescription().toString());
+            out.writeInt(task.getTaskDeadline().toEpochDay());
+        }
+
+        out.writeInt(student.getLessonTimes().size());
+        for (LessonTime lessonTime : student.getLessonTimes()) {
+            out.writeByte(lessonTime.getLessonDayOrdinal());
+            out.writeShort(lessonTime.getStartMinuteOfDay());
+            out.writeShort(lessonTime.getEndMinuteOfDay());
+        }
+    }
+
+    private static Student readStudent(DataInputStream in) throws IOException {
+        Name name = new Name(readString(in));
+        Phone phone = new Phone(readString(in));
+        EmergencyContact emergencyContact = new EmergencyContact(readString(in));
+        Address address = new Address(readString(in));
+        Note note = new Note(readString(in));
+
+        Level level = Level.fromOrdinals(in.readUnsignedByte(), in.readUnsignedByte());
+
+        int subjectCount = readLength(in);
+        Set<Subject> subjects = new HashSet<>();
+        for (int i = 0; i < subjectCount; i++) {
+            subjects.add(Subject.fromOrdinal(in.readUnsignedByte()));
+        }
+
+        int taskCount = readLength(in);
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < taskCount; i++) {
+            TaskDescription description = new TaskDescription(readString(in));
+            TaskDeadline deadline = TaskDeadline.ofEpochDay(in.readInt());
+            tasks.add(new Task(description, deadline));
+        }
+        TaskList taskList = new TaskList(tasks);
+
+        int lessonTimeCount = readLength(in);
+        Set<LessonTime> lessonTimes = new HashSet<>();
+        for (int i = 0; i < lessonTimeCount; i++) {
+            int day = in.readUnsignedByte();
+            LocalTime start = fromMinuteOfDay(in.readUnsignedShort());
+            LocalTime end = fromMinuteOfDay(in.readUnsignedShort());
+            lessonTimes.add(LessonTime.of(day, start, end));
+        }
+
+        return new Student(name, phone, emergencyContact, address, note, subjects, level, taskList, lessonTimes);
+    }
+
+    static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = readLength(in);
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length != length) {
+            throw new EOFException();
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a length or count, each unit of which takes at least a byte, so that it cannot exceed the rest of the file.
+     */
+    private static int readLength(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > in.available()) {
+            throw new IOException(String.format(MESSAGE_INVALID_LENGTH, length));
+        }
+        return length;
+    }
+
+    /**
+     * Returns the time of day {@code minuteOfDay} minutes after midnight.
+     *
+     * @throws IllegalArgumentException if {@code minuteOfDay} is not within a day.
+     */
+    static LocalTime fromMinuteOfDay(int minuteOfDay) {
+        if (minuteOfDay < 0 || minuteOfDay >= MINUTES_PER_DAY) {
+            throw new IllegalArgumentException(String.format(MESSAGE_INVALID_TIME, minuteOfDay));
+        }
+        return LocalTime.of(minuteOfDay / 60, minuteOfDay % 60);
+    }
+
+}
@@ -0,0 +1,379 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.exceptions.DuplicateStudentException;
+
+/**
+ * A class to access AddressBook data stored as a snapshot plus an append-only journal of changes.
+ *
+ * Each save only appends the differences from the previously saved student list to the journal, so the cost of a
+ * save grows with the size of the change rather than the size of the address book. Once the journal grows past a
+ * threshold, it is folded into a new snapshot on a background thread.
+ *
+ * A new snapshot is written before the journals it supersedes are deleted, so a crash in between leaves journals whose
+ * changes the snapshot already holds. Each snapshot is therefore saved with an epoch, which increases with every
+ * snapshot, and each journal starts with the epoch of the snapshot its changes were made to. A journal is only
+ * replayed onto the snapshot of that epoch. A journal rotated out for compaction ends with the epoch of the snapshot
+ * that compaction writes, so that the journal started after it is replayed onto its changes if the compaction
+ * never finished.
+ *
+ * Saves find the changed students by reference, as students are immutable and replaced whenever they are edited, so
+ * that saving does not load the details of unchanged students.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 500;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final String COMPACTING_JOURNAL_SUFFIX = ".journal.compacting";
+
+    private final Path filePath;
+    private final Path journalFilePath;
+    private final Path compactingJournalFilePath;
+    private final int compactionThreshold;
+    private final AddressBookStorage snapshotStorage;
+    private final ExecutorService compactionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "addressbook-journal-compaction");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private List<Student> savedStudents;
+    /** The epoch of the last snapshot written, which the changes in the current journal are made to. */
+    private long epoch = AddressBookSnapshot.NO_EPOCH;
+    private int journalLength;
+    private Future<?> compaction;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(new JsonAddressBookStorage(requireNonNull(filePath)));
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that journals changes on top of the snapshots kept in
+     * {@code snapshotStorage}.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that journals changes on top of the snapshots kept in
+     * {@code snapshotStorage}, and compacts its journal after {@code compactionThreshold} entries have been
+     * appended.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage, int compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        assert compactionThreshold > 0;
+
+        this.filePath = snapshotStorage.getAddressBookFilePath();
+        this.journalFilePath = siblingOf(filePath, JOURNAL_SUFFIX);
+        this.compactingJournalFilePath = siblingOf(filePath, COMPACTING_JOURNAL_SUFFIX);
+        this.compactionThreshold = compactionThreshold;
+        this.snapshotStorage = snapshotStorage;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Journals are only replayed when reading from this storage's own file path.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        if (!filePath.equals(this.filePath)) {
+            return snapshot;
+        }
+        long snapshotEpoch = snapshot.map(AddressBookSnapshot::epochOf).orElse(AddressBookSnapshot.NO_EPOCH);
+        epoch = Math.max(epoch, snapshotEpoch);
+
+        boolean hasJournal = FileUtil.isFileExists(compactingJournalFilePath) || FileUtil.isFileExists(journalFilePath);
+        if (!hasJournal) {
+            return snapshot;
+        }
+
+        List<Student> students = new ArrayList<>(snapshot.orElseGet(AddressBook::new).getStudentList());
+        try {
+            long replayedEpoch = replayJournal(compactingJournalFilePath, students, snapshotEpoch);
+            replayJournal(journalFilePath, students, replayedEpoch);
+
+            AddressBook addressBook = new AddressBook();
+            addressBook.setStudents(students);
+            return Optional.of(addressBook);
+        } catch (IllegalValueException | IllegalArgumentException | DuplicateStudentException e) {
+            logger.info("Illegal values found in journal of " + filePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        } catch (IOException e) {
+            logger.warning("Error reading journal of " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to a file path other than this storage's own is treated as an export, and always writes a full snapshot.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        List<Student> students = List.copyOf(addressBook.getStudentList());
+        if (savedStudents == null) {
+            writeSnapshot(addressBook);
+            savedStudents = students;
+            return;
+        }
+
+        List<JsonAdaptedJournalEntry> entries = diff(savedStudents, students);
+        if (entries.size() > students.size()) {
+            // Rewriting the whole address book is cheaper than journaling a change this large.
+            writeSnapshot(addressBook);
+        } else if (!entries.isEmpty()) {
+            appendEntries(entries);
+            if (journalLength >= compactionThreshold) {
+                startCompaction(addressBook);
+            }
+        }
+        savedStudents = students;
+    }
+
+    @Override
+    public synchronized void flush() throws IOException {
+        awaitCompaction();
+    }
+
+    /**
+     * Blocks until any in-flight compaction has finished.
+     */
+    private void awaitCompaction() throws IOException {
+        if (compaction == null) {
+            return;
+        }
+
+        try {
+            compaction.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while compacting the journal", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to compact the journal", e.getCause());
+        } finally {
+            compaction = null;
+        }
+    }
+
+    /**
+     * Returns the positional journal entries that turn {@code oldStudents} into {@code newStudents}.
+     * Students common to the start and end of both lists are skipped, and the differing region in between is
+     * journaled as updates followed by either deletions or insertions. Students are compared by reference, so an
+     * unchanged student that was replaced by an equal one is journaled as an update.
+     */
+    private static List<JsonAdaptedJournalEntry> diff(List<Student> oldStudents, List<Student> newStudents) {
+        int prefix = 0;
+        int maxPrefix = Math.min(oldStudents.size(), newStudents.size());
+        while (prefix < maxPrefix && oldStudents.get(prefix) == newStudents.get(prefix)) {
+            prefix++;
+        }
+
+        int suffix = 0;
+        int maxSuffix = maxPrefix - prefix;
+        while (suffix < maxSuffix && oldStudents.get(oldStudents.size() - 1 - suffix)
+                == newStudents.get(newStudents.size() - 1 - suffix)) {
+            suffix++;
+        }
+
+        int oldChanged = oldStudents.size() - prefix - suffix;
+        int newChanged = newStudents.size() - prefix - suffix;
+        int updated = Math.min(oldChanged, newChanged);
+
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        for (int i = prefix; i < prefix + updated; i++) {
+            entries.add(JsonAdaptedJournalEntry.update(i, newStudents.get(i)));
+        }
+        for (int i = updated; i < oldChanged; i++) {
+            entries.add(JsonAdaptedJournalEntry.delete(prefix + updated));
+        }
+        for (int i = prefix + updated; i < prefix + newChanged; i++) {
+            entries.add(JsonAdaptedJournalEntry.add(i, newStudents.get(i)));
+        }
+        return entries;
+    }
+
+    private void appendEntries(List<JsonAdaptedJournalEntry> entries) throws IOException {
+        List<String> lines = new ArrayList<>(entries.size() + 1);
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            lines.add(JsonUtil.toJsonLine(JsonAdaptedJournalEntry.base(epoch)));
+        }
+        for (JsonAdaptedJournalEntry entry : entries) {
+            lines.add(JsonUtil.toJsonLine(entry));
+        }
+
+        FileUtil.createParentDirsOfFile(journalFilePath);
+        FileUtil.appendLinesToFile(journalFilePath, lines);
+        journalLength += entries.size();
+    }
+
+    /**
+     * Returns the epoch of the next snapshot. Epochs never fall behind the current time, so that they keep increasing
+     * past the epochs of existing journals even if the snapshot they were started on was never read.
+     */
+    private long nextEpoch() {
+        return Math.max(epoch + 1, System.currentTimeMillis());
+    }
+
+    /**
+     * Writes a full snapshot of {@code addressBook} and discards all journals, which the snapshot supersedes.
+     */
+    private void writeSnapshot(ReadOnlyAddressBook addressBook) throws IOException {
+        awaitCompactionQuietly();
+
+        long snapshotEpoch = nextEpoch();
+        snapshotStorage.saveAddressBook(AddressBookSnapshot.withEpoch(addressBook, snapshotEpoch), filePath);
+        epoch = snapshotEpoch;
+        Files.deleteIfExists(compactingJournalFilePath);
+        Files.deleteIfExists(journalFilePath);
+
+        journalLength = 0;
+    }
+
+    /**
+     * Rotates the current journal out of the way and folds it into a new snapshot in the background.
+     * Changes saved while the compaction is running go to a fresh journal, which is replayed on top of the
+     * new snapshot when reading.
+     */
+    private void startCompaction(ReadOnlyAddressBook addressBook) throws IOException {
+        if (compaction != null && !compaction.isDone()) {
+            return;
+        }
+        awaitCompactionQuietly();
+
+        if (FileUtil.isFileExists(compactingJournalFilePath)) {
+            // A previous compaction failed, so the rotated journal is still needed; fall back to a full snapshot.
+            writeSnapshot(addressBook);
+            return;
+        }
+
+        long snapshotEpoch = nextEpoch();
+        FileUtil.appendLinesToFile(journalFilePath,
+                List.of(JsonUtil.toJsonLine(JsonAdaptedJournalEntry.base(snapshotEpoch))));
+        Files.move(journalFilePath, compactingJournalFilePath);
+        epoch = snapshotEpoch;
+        journalLength = 0;
+
+        ReadOnlyAddressBook copy = AddressBookSnapshot.withEpoch(new AddressBook(addressBook), snapshotEpoch);
+        compaction = compactionExecutor.submit(() -> {
+            snapshotStorage.saveAddressBook(copy, filePath);
+            Files.delete(compactingJournalFilePath);
+            logger.fine("Compacted journal into " + filePath);
+            return null;
+        });
+    }
+
+    private void awaitCompactionQuietly() {
+        try {
+            awaitCompaction();
+        } catch (IOException e) {
+            logger.warning("Journal compaction failed, will retry with a full snapshot: " + e);
+        }
+    }
+
+    /**
+     * Applies the changes in {@code journal} to {@code students}, which hold the snapshot of {@code studentsEpoch},
+     * unless the journal was started on a different snapshot, in which case a later snapshot already holds its
+     * changes. Returns the epoch of the snapshot that {@code students} hold afterwards.
+     */
+    private static long replayJournal(Path journal, List<Student> students, long studentsEpoch)
+            throws IOException, IllegalValueException {
+        if (!FileUtil.isFileExists(journal)) {
+            return studentsEpoch;
+        }
+
+        List<String> lines = Files.readAllLines(journal);
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class);
+            } catch (IOException e) {
+                if (i == lines.size() - 1) {
+                    // The last entry was torn by a crash while it was being appended; it was never acknowledged.
+                    logger.warning("Ignoring incomplete last entry of journal " + journal);
+                    break;
+                }
+                throw e;
+            }
+
+            if (!entry.isBase()) {
+                entry.applyTo(students);
+            } else if (i == 0 && entry.getEpoch() != studentsEpoch) {
+                logger.info("Skipping journal " + journal + ", whose changes are already in the snapshot");
+                return studentsEpoch;
+            } else {
+                studentsEpoch = entry.getEpoch();
+            }
+        }
+        return studentsEpoch;
+    }
+
+    private static Path siblingOf(Path filePath, String suffix) {
+        return filePath.resolveSibling(filePath.getFileName() + suffix);
+    }
+
+}
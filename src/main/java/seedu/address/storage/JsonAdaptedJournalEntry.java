@@ -0,0 +1,136 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.student.Student;
+
+/**
+ * Jackson-friendly version of a single change to the student list, as recorded in the address book journal.
+ * Changes are positional so that replaying them reproduces the exact order of the student list.
+ *
+ * A journal starts with a base entry, which holds the epoch of the snapshot its changes were made to. A base entry
+ * after other entries records that the student list at that point is held by the snapshot of its epoch.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_INVALID_TYPE = "Journal entry has an unknown type: %s";
+    public static final String MESSAGE_INVALID_INDEX = "Journal entry refers to a student index out of range: %d";
+    public static final String MISSING_STUDENT_MESSAGE = "Journal entry of type %s is missing its student!";
+    public static final String MISSING_EPOCH_MESSAGE = "Journal entry of type %s is missing its epoch!";
+
+    static final String TYPE_ADD = "add";
+    static final String TYPE_UPDATE = "update";
+    static final String TYPE_DELETE = "delete";
+    static final String TYPE_BASE = "base";
+
+    private final String type;
+    private final int index;
+    private final JsonAdaptedStudent student;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long epoch;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("type") String type, @JsonProperty("index") int index,
+                                   @JsonProperty("student") JsonAdaptedStudent student,
+                                   @JsonProperty("epoch") Long epoch) {
+        this.type = type;
+        this.index = index;
+        this.student = student;
+        this.epoch = epoch;
+    }
+
+    /**
+     * Returns an entry recording that the student list at this point of the journal is held by the snapshot of
+     * {@code epoch}.
+     */
+    public static JsonAdaptedJournalEntry base(long epoch) {
+        return new JsonAdaptedJournalEntry(TYPE_BASE, 0, null, epoch);
+    }
+
+    /**
+     * Returns an entry recording that {@code student} was inserted at {@code index}.
+     */
+    public static JsonAdaptedJournalEntry add(int index, Student student) {
+        return new JsonAdaptedJournalEntry(TYPE_ADD, index, new JsonAdaptedStudent(student), null);
+    }
+
+    /**
+     * Returns an entry recording that the student at {@code index} was replaced by {@code student}.
+     */
+    public static JsonAdaptedJournalEntry update(int index, Student student) {
+        return new JsonAdaptedJournalEntry(TYPE_UPDATE, index, new JsonAdaptedStudent(student), null);
+    }
+
+    /**
+     * Returns an entry recording that the student at {@code index} was removed.
+     */
+    public static JsonAdaptedJournalEntry delete(int index) {
+        return new JsonAdaptedJournalEntry(TYPE_DELETE, index, null, null);
+    }
+
+    public boolean isBase() {
+        return TYPE_BASE.equals(type);
+    }
+
+    /**
+     * Returns the epoch of the snapshot holding the student list at this base entry.
+     *
+     * @throws IllegalValueException if this base entry has no epoch.
+     */
+    public long getEpoch() throws IllegalValueException {
+        if (epoch == null) {
+            throw new IllegalValueException(String.format(MISSING_EPOCH_MESSAGE, type));
+        }
+        return epoch;
+    }
+
+    /**
+     * Applies this change to {@code students}.
+     *
+     * @throws IllegalValueException if this entry is malformed or does not fit {@code students}.
+     */
+    public void applyTo(List<Student> students) throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_TYPE, type));
+        }
+
+        switch (type) {
+        case TYPE_ADD:
+            checkIndex(index, students.size() + 1);
+            students.add(index, toModelStudent());
+            break;
+        case TYPE_UPDATE:
+            checkIndex(index, students.size());
+            students.set(index, toModelStudent());
+            break;
+        case TYPE_DELETE:
+            checkIndex(index, students.size());
+            students.remove(index);
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_TYPE, type));
+        }
+    }
+
+    private Student toModelStudent() throws IllegalValueException {
+        if (student == null) {
+            throw new IllegalValueException(String.format(MISSING_STUDENT_MESSAGE, type));
+        }
+        return student.toModelType();
+    }
+
+    private static void checkIndex(int index, int bound) throws IllegalValueException {
+        if (index < 0 || index >= bound) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_INDEX, index));
+        }
+    }
+
+}
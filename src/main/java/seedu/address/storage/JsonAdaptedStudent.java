@@ -83,7 +83,7 @@ class JsonAdaptedStudent {
         taskList.addAll(source.getTaskList().getjsonAdaptedTaskList());
         lessonTimes.addAll(source.getLessonTimes().stream()
                 .map(JsonAdaptedLessonTime::new)
-                .collect(Collectors.toSet()));
+                .collect(Collectors.toList()));
     }
 
     /**
@@ -150,15 +150,14 @@ class JsonAdaptedStudent {
             throw new IllegalValueException(Level.MESSAGE_CONSTRAINTS);
         }
 
-        final Level modelLevel = new Level(level);
+        final Level modelLevel = Level.of(level);
 
         List<Task> list = new ArrayList<>();
         for (JsonAdaptedTask jsonAdaptedTask : taskList) {
             Task modelType = jsonAdaptedTask.toModelType();
             list.add(modelType);
         }
-        TaskList modelTaskList = new TaskList();
-        modelTaskList.setTasks(list);
+        TaskList modelTaskList = new TaskList(list);
 
         final Set<LessonTime> modelLessonTimes = new HashSet<>(studentLessonTimes);
 
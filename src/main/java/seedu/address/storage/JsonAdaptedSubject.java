@@ -42,7 +42,7 @@ class JsonAdaptedSubject {
         if (!Subject.isValidSubjectName(subjectName)) {
             throw new IllegalValueException(Subject.MESSAGE_CONSTRAINTS);
         }
-        return new Subject(subjectName);
+        return Subject.of(subjectName);
     }
 
 }
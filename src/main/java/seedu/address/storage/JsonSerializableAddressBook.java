@@ -1,17 +1,24 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.exceptions.DuplicateStudentException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -20,6 +27,11 @@ import seedu.address.model.student.Student;
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_STUDENT = "Students list contains duplicate student(s).";
+    public static final String MESSAGE_NOT_ADDRESS_BOOK = "Address book data must be a JSON object.";
+
+    private static final String STUDENTS_FIELD = "students";
+    private static final String EPOCH_FIELD = "epoch";
+    private static final int CONVERSION_BATCH_SIZE = 4096;
 
     private final List<JsonAdaptedStudent> students = new ArrayList<>();
 
@@ -46,15 +58,114 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedStudent jsonAdaptedStudent : students) {
-            Student student = jsonAdaptedStudent.toModelType();
-            if (addressBook.hasStudent(student)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_STUDENT);
+        List<Student> modelStudents = new ArrayList<>();
+        addModelStudents(students, modelStudents);
+        return toAddressBook(modelStudents);
+    }
+
+    /**
+     * Reads an address book from {@code parser} in the same format as this class. Students are read in batches of
+     * {@value #CONVERSION_BATCH_SIZE}, and each batch is converted into the model's {@code Student}s in parallel,
+     * so that no more than one batch of students is held in its Jackson-friendly form at any time. An address book
+     * saved with a snapshot epoch is returned as an {@code AddressBookSnapshot} of that epoch.
+     *
+     * @throws IOException if the data is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static ReadOnlyAddressBook readAddressBook(JsonParser parser) throws IOException, IllegalValueException {
+        List<Student> modelStudents = new ArrayList<>();
+        long epoch = AddressBookSnapshot.NO_EPOCH;
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IllegalValueException(MESSAGE_NOT_ADDRESS_BOOK);
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (EPOCH_FIELD.equals(fieldName) && value == JsonToken.VALUE_NUMBER_INT) {
+                epoch = parser.getLongValue();
+                continue;
             }
-            addressBook.addStudent(student);
+            if (!STUDENTS_FIELD.equals(fieldName) || value == JsonToken.VALUE_NULL) {
+                parser.skipChildren();
+                continue;
+            }
+            if (value != JsonToken.START_ARRAY) {
+                throw new IllegalValueException(MESSAGE_NOT_ADDRESS_BOOK);
+            }
+
+            List<JsonAdaptedStudent> batch = new ArrayList<>(CONVERSION_BATCH_SIZE);
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                batch.add(parser.readValueAs(JsonAdaptedStudent.class));
+                if (batch.size() == CONVERSION_BATCH_SIZE) {
+                    addModelStudents(batch, modelStudents);
+                    batch.clear();
+                }
+            }
+            addModelStudents(batch, modelStudents);
+        }
+        return AddressBookSnapshot.withEpoch(toAddressBook(modelStudents), epoch);
+    }
+
+    /**
+     * Converts {@code jsonStudents} into the model's {@code Student}s in parallel, and appends them to
+     * {@code modelStudents} in order.
+     *
+     * @throws IllegalValueException for the first student, in order, that violates data constraints.
+     */
+    private static void addModelStudents(List<JsonAdaptedStudent> jsonStudents, List<Student> modelStudents)
+            throws IllegalValueException {
+        Student[] converted = new Student[jsonStudents.size()];
+        IllegalValueException[] failures = new IllegalValueException[jsonStudents.size()];
+        IntStream.range(0, jsonStudents.size()).parallel().forEach(i -> {
+            try {
+                converted[i] = jsonStudents.get(i).toModelType();
+            } catch (IllegalValueException e) {
+                failures[i] = e;
+            }
+        });
+
+        for (IllegalValueException failure : failures) {
+            if (failure != null) {
+                throw failure;
+            }
+        }
+        modelStudents.addAll(Arrays.asList(converted));
+    }
+
+    /**
+     * Returns an {@code AddressBook} with {@code modelStudents}, checking for duplicates all at once.
+     *
+     * @throws IllegalValueException if {@code modelStudents} contains duplicate students.
+     */
+    private static AddressBook toAddressBook(List<Student> modelStudents) throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setStudents(modelStudents);
+        } catch (DuplicateStudentException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_STUDENT);
         }
         return addressBook;
     }
 
+    /**
+     * Writes {@code source} to {@code generator} in the same format as this class, converting one student at a
+     * time into its Jackson-friendly form. The epoch of a snapshot is written along with its students.
+     *
+     * @throws IOException if there was any problem writing the data.
+     */
+    public static void writeAddressBook(ReadOnlyAddressBook source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        long epoch = AddressBookSnapshot.epochOf(source);
+        if (epoch != AddressBookSnapshot.NO_EPOCH) {
+            generator.writeNumberField(EPOCH_FIELD, epoch);
+        }
+        generator.writeArrayFieldStart(STUDENTS_FIELD);
+        for (Student student : source.getStudentList()) {
+            generator.writeObject(new JsonAdaptedStudent(student));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
 }
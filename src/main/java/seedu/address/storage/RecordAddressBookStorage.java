@@ -0,0 +1,414 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.storage.BinaryAddressBookStorage.fromMinuteOfDay;
+import static seedu.address.storage.BinaryAddressBookStorage.writeLevelAndSubjects;
+import static seedu.address.storage.BinaryAddressBookStorage.writeString;
+import static seedu.address.storage.BinaryAddressBookStorage.writeTasksAndLessonTimes;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.student.Address;
+import seedu.address.model.student.EmergencyContact;
+import seedu.address.model.student.LessonTime;
+import seedu.address.model.student.Level;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Note;
+import seedu.address.model.student.Phone;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.Subject;
+import seedu.address.model.student.task.Task;
+import seedu.address.model.student.task.TaskDeadline;
+import seedu.address.model.student.task.TaskDescription;
+import seedu.address.model.student.task.TaskList;
+
+/**
+ * A class to access AddressBook data stored as a record-oriented file on the hard disk.
+ *
+ * The file starts with a header holding a magic number, the format version, the number of students, the offset of
+ * the details section and the epoch of the snapshot; files of the first format version have no epoch. The header is
+ * followed by one head record per student, holding the offset of the student's details record, its name, level and
+ * subjects. The details section holds the remaining fields of each student.
+ *
+ * Reading the file decodes only the header and the head records, checking the offsets and lengths they hold against
+ * the size of the file. The details record of each student is read from the file and decoded when it is first
+ * accessed, so a corrupted details record is only reported then. Records are read with positional reads rather than
+ * a memory mapping, as a mapping is only released once it is garbage collected. Before a save replaces a file that
+ * students were read from, the part of the file they may still read is copied into memory and the file is closed, so
+ * that the file can be replaced on every platform and students read from the earlier version remain valid.
+ *
+ * Data files without the header are read as JSON, so that existing JSON data files can be imported by switching the
+ * data file format.
+ */
+public class RecordAddressBookStorage implements AddressBookStorage {
+
+    public static final String MESSAGE_FILE_TOO_LARGE = "Data file is too large to be read: %d bytes";
+    public static final String MESSAGE_INVALID_OFFSET = "Data file has an invalid details offset: %d";
+    public static final String MESSAGE_CORRUPT_DETAILS = "Data file %s has corrupted details for %s";
+
+    static final int MAGIC = 0x45444D4D;
+    static final int FORMAT_VERSION = 2;
+    /** The format version before snapshot epochs were saved. */
+    static final int FORMAT_VERSION_WITHOUT_EPOCH = 1;
+
+    private static final int HEADER_SIZE_WITHOUT_EPOCH = 4 * Integer.BYTES;
+    private static final int HEADER_SIZE = HEADER_SIZE_WITHOUT_EPOCH + Long.BYTES;
+
+    private static final Logger logger = LogsCenter.getLogger(RecordAddressBookStorage.class);
+
+    private final Path filePath;
+    /** The details sections of the files read by this storage that students may still read details from. */
+    private final List<DetailsSection> openSections = new ArrayList<>();
+
+    public RecordAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(filePath, StandardOpenOption.READ);
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException(String.format(MESSAGE_FILE_TOO_LARGE, size));
+            }
+
+            ByteBuffer header = readFully(channel, 0, (int) Math.min(size, HEADER_SIZE));
+            if (header.limit() < Integer.BYTES || header.getInt(0) != MAGIC) {
+                channel.close();
+                logger.info("Data file " + filePath + " is not a record data file, reading it as JSON");
+                return new JsonAddressBookStorage(filePath).readAddressBook(filePath);
+            }
+            int headerSize = checkHeader(header);
+            long epoch = headerSize == HEADER_SIZE
+                    ? header.getLong(HEADER_SIZE_WITHOUT_EPOCH)
+                    : AddressBookSnapshot.NO_EPOCH;
+
+            DetailsSection section = readDetailsSection(filePath, channel, header, headerSize, (int) size);
+            int count = header.getInt(2 * Integer.BYTES);
+            AddressBook addressBook = readHeads(section, count,
+                    readFully(channel, headerSize, section.start - headerSize));
+            synchronized (openSections) {
+                openSections.add(section);
+            }
+            return Optional.of(AddressBookSnapshot.withEpoch(addressBook, epoch));
+        } catch (IllegalValueException | IllegalArgumentException | BufferUnderflowException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            closeQuietly(channel);
+            throw new DataLoadingException(e);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from record file " + filePath + ": " + ioe);
+            closeQuietly(channel);
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        ByteArrayOutputStream headBytes = new ByteArrayOutputStream();
+        ByteArrayOutputStream detailBytes = new ByteArrayOutputStream();
+        DataOutputStream heads = new DataOutputStream(headBytes);
+        DataOutputStream details = new DataOutputStream(detailBytes);
+        List<Student> students = addressBook.getStudentList();
+        for (Student student : students) {
+            heads.writeInt(details.size());
+            writeString(heads, student.getName().fullName);
+            writeLevelAndSubjects(heads, student);
+
+            writeString(details, student.getPhone().value);
+            writeString(details, student.getEmergencyContact().value);
+            writeString(details, student.getAddress().value);
+            writeString(details, student.getNote().value);
+            writeTasksAndLessonTimes(details, student);
+        }
+
+        detachSections(filePath);
+        FileUtil.writeAtomicallyWithBackup(filePath, fileOut -> {
+            DataOutputStream out = new DataOutputStream(fileOut);
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(students.size());
+            out.writeInt(HEADER_SIZE + headBytes.size());
+            out.writeLong(AddressBookSnapshot.epochOf(addressBook));
+            headBytes.writeTo(out);
+            detailBytes.writeTo(out);
+        });
+    }
+
+    /**
+     * Does nothing, as every save is written before {@link #saveAddressBook} returns.
+     */
+    @Override
+    public void flush() {
+    }
+
+    /**
+     * Detaches the open details sections of the file at {@code filePath} from the file, so that it can be replaced.
+     */
+    private void detachSections(Path filePath) throws IOException {
+        Path target = filePath.toAbsolutePath().normalize();
+        synchronized (openSections) {
+            Iterator<DetailsSection> iterator = openSections.iterator();
+            while (iterator.hasNext()) {
+                DetailsSection section = iterator.next();
+                if (section.filePath.toAbsolutePath().normalize().equals(target)) {
+                    section.detach();
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks that {@code header} holds a whole header of a supported format version, returning the size of the header.
+     */
+    private static int checkHeader(ByteBuffer header) throws IOException, IllegalValueException {
+        if (header.limit() < HEADER_SIZE_WITHOUT_EPOCH) {
+            throw new EOFException();
+        }
+
+        int version = header.getInt(Integer.BYTES);
+        if (version != FORMAT_VERSION && version != FORMAT_VERSION_WITHOUT_EPOCH) {
+            throw new IllegalValueException(
+                    String.format(BinaryAddressBookStorage.MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        int headerSize = version == FORMAT_VERSION ? HEADER_SIZE : HEADER_SIZE_WITHOUT_EPOCH;
+        if (header.limit() < headerSize) {
+            throw new EOFException();
+        }
+        return headerSize;
+    }
+
+    /**
+     * Checks the offset of the details section in {@code header} against the size of the file, returning the details
+     * section it describes.
+     */
+    private static DetailsSection readDetailsSection(Path filePath, FileChannel channel, ByteBuffer header,
+                                                     int headerSize, int fileSize) throws IllegalValueException {
+        int detailsStart = header.getInt(3 * Integer.BYTES);
+        if (detailsStart < headerSize || detailsStart > fileSize) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_OFFSET, detailsStart));
+        }
+        return new DetailsSection(filePath, channel, detailsStart, fileSize - detailsStart);
+    }
+
+    /**
+     * Decodes the head records in {@code heads}, creating students whose details are read from {@code section} on
+     * first access. The offset of each details record is checked to lie within the section, after the record before.
+     */
+    private static AddressBook readHeads(DetailsSection section, int count, ByteBuffer heads)
+            throws IllegalValueException {
+        if (count < 0 || count > heads.remaining()) {
+            throw new IllegalValueException(String.format(BinaryAddressBookStorage.MESSAGE_INVALID_LENGTH, count));
+        }
+
+        // Filled in before any details are read, so that each record ends where the next one starts
+        int[] offsets = new int[count + 1];
+        offsets[count] = section.length;
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < count; i++) {
+            offsets[i] = heads.getInt();
+            if (offsets[i] < (i == 0 ? 0 : offsets[i - 1]) || offsets[i] > section.length) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_OFFSET, offsets[i]));
+            }
+
+            Name name = new Name(readString(heads));
+            Level level = Level.fromOrdinals(Byte.toUnsignedInt(heads.get()), Byte.toUnsignedInt(heads.get()));
+            int subjectCount = readLength(heads);
+            Set<Subject> subjects = new HashSet<>();
+            for (int j = 0; j < subjectCount; j++) {
+                subjects.add(Subject.fromOrdinal(Byte.toUnsignedInt(heads.get())));
+            }
+
+            int record = i;
+            Student student = new Student(name, subjects, level, () ->
+                    section.readDetails(name, offsets[record], offsets[record + 1] - offsets[record]));
+            if (addressBook.hasStudent(student)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_STUDENT);
+            }
+            addressBook.addStudent(student);
+        }
+        return addressBook;
+    }
+
+    private static Student.Details decodeDetails(ByteBuffer in) {
+        Phone phone = new Phone(readString(in));
+        EmergencyContact emergencyContact = new EmergencyContact(readString(in));
+        Address address = new Address(readString(in));
+        Note note = new Note(readString(in));
+
+        int taskCount = readLength(in);
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < taskCount; i++) {
+            TaskDescription description = new TaskDescription(readString(in));
+            TaskDeadline deadline = TaskDeadline.ofEpochDay(in.getInt());
+            tasks.add(new Task(description, deadline));
+        }
+        TaskList taskList = new TaskList(tasks);
+
+        int lessonTimeCount = readLength(in);
+        Set<LessonTime> lessonTimes = new HashSet<>();
+        for (int i = 0; i < lessonTimeCount; i++) {
+            int day = Byte.toUnsignedInt(in.get());
+            LocalTime start = fromMinuteOfDay(Short.toUnsignedInt(in.getShort()));
+            LocalTime end = fromMinuteOfDay(Short.toUnsignedInt(in.getShort()));
+            lessonTimes.add(LessonTime.of(day, start, end));
+        }
+
+        return new Student.Details(phone, emergencyContact, address, note, taskList, lessonTimes);
+    }
+
+    /**
+     * Reads {@code length} bytes of {@code channel} starting at {@code position}.
+     */
+    private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException();
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException ioe) {
+            logger.warning("Error closing record file: " + ioe);
+        }
+    }
+
+    private static String readString(ByteBuffer in) {
+        byte[] bytes = new byte[readLength(in)];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int readLength(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0 || length > in.remaining()) {
+            throw new IllegalArgumentException(
+                    String.format(BinaryAddressBookStorage.MESSAGE_INVALID_LENGTH, length));
+        }
+        return length;
+    }
+
+    /**
+     * The details section of a record data file, from which students read their details records on first access.
+     * Records are read from the file until it is detached, after which they are read from a copy in memory.
+     */
+    private static class DetailsSection {
+        private final Path filePath;
+        private final int start;
+        private final int length;
+        private FileChannel channel;
+        private ByteBuffer copy;
+
+        DetailsSection(Path filePath, FileChannel channel, int start, int length) {
+            this.filePath = filePath;
+            this.channel = channel;
+            this.start = start;
+            this.length = length;
+        }
+
+        /**
+         * Reads and decodes the details record of the student named {@code name}.
+         *
+         * @throws IllegalStateException if the record is corrupted.
+         * @throws UncheckedIOException if the record could not be read from the file.
+         */
+        synchronized Student.Details readDetails(Name name, int offset, int recordLength) {
+            try {
+                ByteBuffer record = copy != null
+                        ? copy.duplicate().position(offset).limit(offset + recordLength).slice()
+                        : readFully(channel, start + offset, recordLength);
+                return decodeDetails(record);
+            } catch (IllegalArgumentException | BufferUnderflowException e) {
+                String message = String.format(MESSAGE_CORRUPT_DETAILS, filePath, name);
+                logger.warning(message + ": " + e.getMessage());
+                throw new IllegalStateException(message, e);
+            } catch (IOException ioe) {
+                logger.warning("Error reading from record file " + filePath + ": " + ioe);
+                throw new UncheckedIOException(ioe);
+            }
+        }
+
+        /**
+         * Copies the section into memory and closes the file, after which the file can be replaced.
+         */
+        synchronized void detach() throws IOException {
+            try {
+                copy = readFully(channel, start, length);
+            } finally {
+                channel.close();
+                channel = null;
+            }
+        }
+    }
+}
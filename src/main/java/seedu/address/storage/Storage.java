@@ -29,4 +29,10 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    @Override
+    void flush() throws IOException;
+
+    @Override
+    boolean checkSaved() throws IOException;
+
 }
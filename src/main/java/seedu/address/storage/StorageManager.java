@@ -75,4 +75,14 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void flush() throws IOException {
+        addressBookStorage.flush();
+    }
+
+    @Override
+    public boolean checkSaved() throws IOException {
+        return addressBookStorage.checkSaved();
+    }
+
 }
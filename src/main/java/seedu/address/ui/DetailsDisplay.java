@@ -7,6 +7,7 @@ import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import seedu.address.model.student.Level;
 import seedu.address.model.student.Student;
 
 /**
@@ -58,7 +59,7 @@ public class DetailsDisplay extends UiPart<Region> {
         emergencyContact.setText("Emergency Contact: " + student.getEmergencyContact().value);
         address.setText("Address: " + student.getAddress().value);
         note.setText(student.getNote().value);
-        if (!student.getLevel().levelName.equals("NONE NONE")) {
+        if (student.getLevel() != Level.NONE) {
             level.getChildren().add(new Label(student.getLevel().toString()));
         }
         student.getSubjects().stream()
@@ -162,10 +162,19 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Closes the application.
+     * Closes the application once all changes have been saved.
+     * The application is kept open if the changes could not be saved, so that the user can see why.
      */
     @FXML
     private void handleExit() {
+        try {
+            logic.flush();
+        } catch (CommandException e) {
+            logger.warning("Could not save data before exiting: " + e.getMessage());
+            resultDisplay.setFeedbackToUser(e.getMessage());
+            return;
+        }
+
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
         logic.setGuiSettings(guiSettings);
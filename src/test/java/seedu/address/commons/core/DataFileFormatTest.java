@@ -0,0 +1,32 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.JsonUtil;
+
+public class DataFileFormatTest {
+
+    @Test
+    public void fromName_currentName_returnsFormat() {
+        assertEquals(DataFileFormat.BINARY, DataFileFormat.fromName("BINARY"));
+        assertEquals(DataFileFormat.RECORDS, DataFileFormat.fromName("RECORDS"));
+    }
+
+    @Test
+    public void fromName_legacyName_returnsFormat() {
+        assertEquals(DataFileFormat.RECORDS, DataFileFormat.fromName("MAPPED"));
+    }
+
+    @Test
+    public void fromName_unknownName_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> DataFileFormat.fromName("XML"));
+    }
+
+    @Test
+    public void fromJsonString_legacyName_returnsFormat() throws Exception {
+        assertEquals(DataFileFormat.RECORDS, JsonUtil.fromJsonString("\"MAPPED\"", DataFileFormat.class));
+    }
+}
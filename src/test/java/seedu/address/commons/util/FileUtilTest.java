@@ -1,13 +1,23 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +30,49 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_existingFile_contentsReplaced() throws Exception {
+        Path file = testFolder.resolve("folder").resolve("file.txt");
+        FileUtil.writeToFile(file, "old contents");
+        FileUtil.writeToFile(file, "new contents");
+
+        assertEquals("new contents", FileUtil.readFromFile(file));
+        assertEquals(1, countFiles(file.getParent()));
+    }
+
+    @Test
+    public void writeAtomically_writerFails_fileUnchanged() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old contents");
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, out -> {
+            out.write("partial".getBytes());
+            throw new IOException();
+        }));
+
+        assertEquals("old contents", FileUtil.readFromFile(file));
+        assertEquals(1, countFiles(testFolder));
+    }
+
+    @Test
+    public void writeAtomicallyWithBackup_existingFile_previousContentsBackedUp() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        Path backupFile = FileUtil.getBackupFile(file);
+
+        FileUtil.writeAtomicallyWithBackup(file, out -> out.write("first".getBytes()));
+        assertFalse(FileUtil.isFileExists(backupFile));
+
+        FileUtil.writeAtomicallyWithBackup(file, out -> out.write("second".getBytes()));
+        FileUtil.writeAtomicallyWithBackup(file, out -> out.write("third".getBytes()));
+        assertEquals("third", FileUtil.readFromFile(file));
+        assertEquals("second", FileUtil.readFromFile(backupFile));
+        assertEquals(2, countFiles(testFolder));
+    }
+
+    private static long countFiles(Path folder) throws IOException {
+        try (Stream<Path> files = Files.list(folder)) {
+            return files.count();
+        }
+    }
+
 }
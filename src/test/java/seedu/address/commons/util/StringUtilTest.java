@@ -1,10 +1,12 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -155,6 +157,56 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for toWords --------------------------------------
+
+    @Test
+    public void toWords_nullText_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.toWords(null));
+    }
+
+    @Test
+    public void toWords_validInputs_correctResult() {
+        // No words
+        assertEquals(List.of(), StringUtil.toWords(""));
+        assertEquals(List.of(), StringUtil.toWords("  ,.! "));
+
+        // Words are case-folded and split on whitespace and punctuation
+        assertEquals(List.of("essay", "on", "macbeth", "s", "ghost"), StringUtil.toWords("Essay on Macbeth's ghost"));
+        assertEquals(List.of("p1", "2024", "12", "25"), StringUtil.toWords("  P1 (2024-12-25)"));
+
+        // Repeated words are kept
+        assertEquals(List.of("essay", "essay"), StringUtil.toWords("essay, ESSAY"));
+    }
+
+    //---------------- Tests for editDistance --------------------------------------
+
+    @Test
+    public void editDistance_nullString_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance(null, "abc"));
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance("abc", null));
+    }
+
+    @Test
+    public void editDistance_validInputs_correctResult() {
+        // Equal or empty strings
+        assertEquals(0, StringUtil.editDistance("", ""));
+        assertEquals(0, StringUtil.editDistance("Alice", "Alice"));
+        assertEquals(5, StringUtil.editDistance("", "Alice"));
+
+        // Single insertion, deletion, replacement
+        assertEquals(1, StringUtil.editDistance("Alice", "Alicee"));
+        assertEquals(1, StringUtil.editDistance("Alice", "Alce"));
+        assertEquals(1, StringUtil.editDistance("Alice", "Alise"));
+
+        // Transposition counts as two edits, case is not ignored
+        assertEquals(2, StringUtil.editDistance("Alice", "Alcie"));
+        assertEquals(1, StringUtil.editDistance("Alice", "alice"));
+
+        // Symmetric
+        assertEquals(3, StringUtil.editDistance("kitten", "sitting"));
+        assertEquals(3, StringUtil.editDistance("sitting", "kitten"));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -12,7 +14,10 @@ import static seedu.address.testutil.TypicalStudents.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,14 +25,18 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.student.Student;
+import seedu.address.storage.AsyncAddressBookStorage;
+import seedu.address.storage.BackgroundSaveException;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
@@ -76,6 +85,106 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_unmodifiedAddressBook_saveSkipped() throws Exception {
+        LogicManager logicManager = (LogicManager) logic;
+        Path addressBookPath = temporaryFolder.resolve("addressBook.json");
+
+        // first command always saves, as nothing has been saved yet
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        assertTrue(Files.exists(addressBookPath));
+        assertEquals(0, logicManager.getSkippedSaveCount());
+
+        Files.delete(addressBookPath);
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        assertFalse(Files.exists(addressBookPath));
+        assertEquals(1, logicManager.getSkippedSaveCount());
+
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMERGENCY_CONTACT_DESC_AMY
+                + ADDRESS_DESC_AMY;
+        logicManager.execute(addCommand);
+        assertTrue(Files.exists(addressBookPath));
+        assertEquals(1, logicManager.getSkippedSaveCount());
+    }
+
+    @Test
+    public void execute_exitCommand_changesSaved() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("asyncAddressBook.json");
+        StorageManager storage = new StorageManager(
+                new AsyncAddressBookStorage(new JsonAddressBookStorage(addressBookPath)),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage);
+
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMERGENCY_CONTACT_DESC_AMY
+                + ADDRESS_DESC_AMY;
+        logic.execute(addCommand);
+        logic.execute(ExitCommand.COMMAND_WORD);
+
+        assertEquals(model.getAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void flush_earlierSaveFailed_changesSaved() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("failingAddressBook.json");
+        AtomicBoolean isFailing = new AtomicBoolean(true);
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(addressBookPath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (isFailing.get()) {
+                    throw DUMMY_IO_EXCEPTION;
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage);
+
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMERGENCY_CONTACT_DESC_AMY
+                + ADDRESS_DESC_AMY;
+        assertThrows(CommandException.class, () -> logic.execute(addCommand));
+
+        isFailing.set(false);
+        logic.flush();
+        assertEquals(model.getAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void execute_earlierBackgroundSaveFailed_throwsCommandExceptionNamingFailedCommand() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("backgroundAddressBook.json");
+        AtomicBoolean isFailing = new AtomicBoolean(false);
+        AtomicLong savedVersion = new AtomicLong();
+        // Stands in for a storage whose saves are written in the background and fail after returning
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(addressBookPath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                savedVersion.set(addressBook.getVersion());
+                super.saveAddressBook(addressBook, filePath);
+            }
+
+            @Override
+            public boolean checkSaved() throws IOException {
+                if (isFailing.getAndSet(false)) {
+                    throw new BackgroundSaveException(savedVersion.get(), DUMMY_IO_EXCEPTION);
+                }
+                return true;
+            }
+        };
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage);
+
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMERGENCY_CONTACT_DESC_AMY
+                + ADDRESS_DESC_AMY;
+        logic.execute(addCommand);
+        isFailing.set(true);
+
+        // reported by a command that leaves the address book unchanged
+        assertThrows(CommandException.class, String.format(LogicManager.FILE_OPS_COMMAND_ERROR_FORMAT, addCommand,
+                DUMMY_IO_EXCEPTION.getMessage()), () -> logic.execute(ListCommand.COMMAND_WORD));
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
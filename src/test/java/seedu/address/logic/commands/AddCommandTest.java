@@ -8,8 +8,16 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalStudents.ALICE;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -22,8 +30,13 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.student.LessonTime;
+import seedu.address.model.student.Level;
 import seedu.address.model.student.Name;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.Subject;
+import seedu.address.model.student.predicate.QueryPredicate;
+import seedu.address.model.student.task.DueTask;
 import seedu.address.testutil.StudentBuilder;
 
 public class AddCommandTest {
@@ -151,6 +164,86 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<Student> findStudent(Name name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Name> findSimilarNames(Name name, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Student> findStudentsByNameTokens(Collection<String> tokens) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Student> findStudentsBySubjects(Collection<Subject> subjects) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Student> findStudentsByLevel(Level level) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Student> findStudentsByLessonTime(LessonTime lessonTime) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<LessonTime, List<Student>> findLessonClashes(Student student, Collection<LessonTime> lessonTimes) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Student> findStudentsByLessonDays(int lessonDayMask) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Student> findStudentsWithTasks() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<DueTask> findTasksDueFrom(LocalDate date, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Student> findStudentsWithTasksDueBetween(LocalDate from, LocalDate to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<Student, Integer> findStudentsByWords(Collection<String> words) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Student> findMatchingStudents(QueryPredicate query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Set<Student>> findIndexedStudents(QueryPredicate query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getQueryCacheHitCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getQueryCacheMissCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addStudent(Student student) {
             throw new AssertionError("This method should not be called.");
@@ -190,6 +283,11 @@ public class AddCommandTest {
         public void updateFilteredStudentList(Predicate<Student> predicate) {
             return;
         }
+
+        @Override
+        public void updateFilteredStudentList(Predicate<Student> predicate, Comparator<Student> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -228,6 +326,11 @@ public class AddCommandTest {
             studentsAdded.add(student);
         }
 
+        @Override
+        public Map<LessonTime, List<Student>> findLessonClashes(Student student, Collection<LessonTime> lessonTimes) {
+            return Collections.emptyMap();
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             return new AddressBook();
@@ -0,0 +1,105 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.StudentBuilder;
+import seedu.address.ui.Ui.UiState;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code AgendaCommand}.
+ */
+public class AgendaCommandTest {
+    private static final LocalDate NEW_YEAR = LocalDate.of(2024, 1, 1);
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        AgendaCommand agendaFirstCommand = new AgendaCommand(NEW_YEAR, 5);
+
+        // same object -> returns true
+        assertTrue(agendaFirstCommand.equals(agendaFirstCommand));
+
+        // same values -> returns true
+        assertTrue(agendaFirstCommand.equals(new AgendaCommand(NEW_YEAR, 5)));
+        assertTrue(new AgendaCommand(5).equals(new AgendaCommand(5)));
+
+        // different types -> returns false
+        assertFalse(agendaFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(agendaFirstCommand.equals(null));
+
+        // different date -> returns false
+        assertFalse(agendaFirstCommand.equals(new AgendaCommand(NEW_YEAR.plusDays(1), 5)));
+        assertFalse(agendaFirstCommand.equals(new AgendaCommand(5)));
+
+        // different count -> returns false
+        assertFalse(agendaFirstCommand.equals(new AgendaCommand(NEW_YEAR, 6)));
+    }
+
+    @Test
+    public void execute_tasksDue_tasksListedByDeadline() {
+        String expectedMessage = String.format(AgendaCommand.MESSAGE_SUCCESS, 2)
+                + "\n1. Mark homework by 1 Jan 2024 for Benson Meier"
+                + "\n2. Grade assignment by 31 Dec 2024 for Benson Meier";
+        expectedModel.updateFilteredStudentList(BENSON::equals);
+        assertCommandSuccess(new AgendaCommand(NEW_YEAR, 10), model, expectedMessage, UiState.TASKS, expectedModel);
+        assertEquals(List.of(BENSON), model.getFilteredStudentList());
+    }
+
+    @Test
+    public void execute_countReached_firstTasksListed() {
+        String expectedMessage = String.format(AgendaCommand.MESSAGE_SUCCESS, 1)
+                + "\n1. Grade assignment by 31 Dec 2024 for Benson Meier";
+        expectedModel.updateFilteredStudentList(BENSON::equals);
+        assertCommandSuccess(new AgendaCommand(NEW_YEAR.plusDays(1), 1), model, expectedMessage, UiState.TASKS,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_noTasksDue_noStudentFound() {
+        String expectedMessage = String.format(AgendaCommand.MESSAGE_SUCCESS, 0);
+        expectedModel.updateFilteredStudentList(unused -> false);
+        assertCommandSuccess(new AgendaCommand(LocalDate.of(2025, 1, 1), 10), model, expectedMessage, UiState.TASKS,
+                expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredStudentList());
+    }
+
+    @Test
+    public void execute_studentUpdatedAfterwards_studentStillListed() {
+        new AgendaCommand(NEW_YEAR, 10).execute(model);
+
+        Student updatedBenson = new StudentBuilder(BENSON).withPhone("91234567").build();
+        model.setStudent(BENSON, updatedBenson);
+        assertEquals(List.of(updatedBenson), model.getFilteredStudentList());
+
+        // no longer has a task due in the listed period -> not listed
+        Student doneBenson = new StudentBuilder(updatedBenson).withTaskList().build();
+        model.setStudent(updatedBenson, doneBenson);
+        assertEquals(Collections.emptyList(), model.getFilteredStudentList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        AgendaCommand agendaCommand = new AgendaCommand(NEW_YEAR, 5);
+        String expected = AgendaCommand.class.getCanonicalName() + "{fromDate=" + NEW_YEAR + ", count=5}";
+        assertEquals(expected, agendaCommand.toString());
+    }
+}
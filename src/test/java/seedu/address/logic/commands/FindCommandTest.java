@@ -5,20 +5,28 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
 import static seedu.address.testutil.TypicalStudents.CARL;
+import static seedu.address.testutil.TypicalStudents.DANIEL;
 import static seedu.address.testutil.TypicalStudents.ELLE;
 import static seedu.address.testutil.TypicalStudents.FIONA;
 import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.student.predicate.CombinedPredicate;
+import seedu.address.model.student.predicate.LevelContainsKeywordsPredicate;
 import seedu.address.model.student.predicate.NameContainsKeywordsPredicate;
+import seedu.address.model.student.predicate.TaskListNotEmptyPredicate;
+import seedu.address.model.student.predicate.TextContainsKeywordsPredicate;
 import seedu.address.ui.Ui.UiState;
 
 /**
@@ -75,6 +83,27 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredStudentList());
     }
 
+    @Test
+    public void execute_multipleCriteria_studentsMatchingAllFound() {
+        String expectedMessage = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, 1);
+        CombinedPredicate predicate = new CombinedPredicate(List.of(preparePredicate("Meier Kunz"),
+                new LevelContainsKeywordsPredicate(List.of("S2 NT")), new TaskListNotEmptyPredicate()), true);
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredStudentList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, UiState.DETAILS, expectedModel);
+        assertEquals(List.of(BENSON), model.getFilteredStudentList());
+    }
+
+    @Test
+    public void execute_keywords_studentsRankedByFrequency() {
+        String expectedMessage = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, 6);
+        TextContainsKeywordsPredicate predicate = new TextContainsKeywordsPredicate(List.of("needs", "homework"));
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredStudentList(predicate, predicate.rankMatches(expectedModel).get());
+        assertCommandSuccess(command, model, expectedMessage, UiState.DETAILS, expectedModel);
+        assertEquals(List.of(BENSON, ALICE, CARL, DANIEL, ELLE, FIONA), model.getFilteredStudentList());
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
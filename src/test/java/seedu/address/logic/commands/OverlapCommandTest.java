@@ -0,0 +1,81 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.student.LessonTime;
+import seedu.address.model.student.predicate.LessonTimeOverlapsPredicate;
+import seedu.address.ui.Ui.UiState;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code OverlapCommand}.
+ */
+public class OverlapCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        LessonTimeOverlapsPredicate firstPredicate =
+                new LessonTimeOverlapsPredicate(new LessonTime("WED-15:00-17:00"));
+        LessonTimeOverlapsPredicate secondPredicate =
+                new LessonTimeOverlapsPredicate(new LessonTime("THU-15:00-17:00"));
+
+        OverlapCommand overlapFirstCommand = new OverlapCommand(firstPredicate);
+        OverlapCommand overlapSecondCommand = new OverlapCommand(secondPredicate);
+
+        // same object -> returns true
+        assertTrue(overlapFirstCommand.equals(overlapFirstCommand));
+
+        // same values -> returns true
+        assertTrue(overlapFirstCommand.equals(new OverlapCommand(firstPredicate)));
+
+        // different types -> returns false
+        assertFalse(overlapFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(overlapFirstCommand.equals(null));
+
+        // different lesson time -> returns false
+        assertFalse(overlapFirstCommand.equals(overlapSecondCommand));
+    }
+
+    @Test
+    public void execute_overlappingLesson_studentFound() {
+        String expectedMessage = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, 1);
+        LessonTimeOverlapsPredicate predicate = new LessonTimeOverlapsPredicate(new LessonTime("WED-16:00-17:30"));
+        expectedModel.updateFilteredStudentList(predicate);
+        assertCommandSuccess(new OverlapCommand(predicate), model, expectedMessage, UiState.DETAILS, expectedModel);
+        assertEquals(List.of(BENSON), model.getFilteredStudentList());
+    }
+
+    @Test
+    public void execute_touchingLesson_noStudentFound() {
+        String expectedMessage = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, 0);
+        LessonTimeOverlapsPredicate predicate = new LessonTimeOverlapsPredicate(new LessonTime("WED-15:00-17:00"));
+        expectedModel.updateFilteredStudentList(predicate);
+        assertCommandSuccess(new OverlapCommand(predicate), model, expectedMessage, UiState.DETAILS, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredStudentList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        LessonTimeOverlapsPredicate predicate = new LessonTimeOverlapsPredicate(new LessonTime("WED-15:00-17:00"));
+        OverlapCommand overlapCommand = new OverlapCommand(predicate);
+        String expected = OverlapCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        assertEquals(expected, overlapCommand.toString());
+    }
+}
@@ -15,6 +15,7 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showStudentAtIndex;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_STUDENT;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_STUDENT;
+import static seedu.address.testutil.TypicalStudents.BENSON;
 import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
 
 import java.util.Optional;
@@ -290,6 +291,62 @@ public class UpdateCommandTest {
         assertCommandFailure(updateCommand, model, expectedMessage);
     }
 
+    @Test
+    public void execute_clashingLessonTimesSpecified_clashesDescribed() {
+        Student student = new StudentBuilder().withName("Clashing Student").build();
+        model.addStudent(student);
+        UpdateStudentDescriptor descriptor = new UpdateStudentDescriptorBuilder()
+                .withLessonTimes("WED-18:00-20:00").build();
+        Student updatedStudent = new StudentBuilder(student).withLessonTimes("WED-18:00-20:00").build();
+        UpdateCommand updateCommand = new UpdateCommand(student.getName(), descriptor);
+
+        String expectedMessage = String.format(UpdateCommand.MESSAGE_UPDATE_STUDENT_SUCCESS,
+                Messages.format(updatedStudent))
+                + String.format(Messages.MESSAGE_LESSON_CLASH, "WED-18:00-20:00", BENSON.getName());
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        expectedModel.setStudent(student, updatedStudent);
+
+        assertCommandSuccess(updateCommand, model, expectedMessage, UiState.DETAILS, expectedModel);
+    }
+
+    @Test
+    public void execute_lessonTimesNotSpecified_existingClashesNotDescribed() {
+        Student student = new StudentBuilder().withName("Clashing Student").withLessonTimes("WED-18:00-20:00").build();
+        model.addStudent(student);
+        UpdateStudentDescriptor descriptor = new UpdateStudentDescriptorBuilder().withPhone(VALID_PHONE_BOB).build();
+        Student updatedStudent = new StudentBuilder(student).withPhone(VALID_PHONE_BOB).build();
+        UpdateCommand updateCommand = new UpdateCommand(student.getName(), descriptor);
+
+        String expectedMessage = String.format(UpdateCommand.MESSAGE_UPDATE_STUDENT_SUCCESS,
+                Messages.format(updatedStudent));
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        expectedModel.setStudent(student, updatedStudent);
+
+        assertCommandSuccess(updateCommand, model, expectedMessage, UiState.DETAILS, expectedModel);
+    }
+
+    @Test
+    public void execute_lessonTimeAdded_onlyAddedLessonTimeClashesDescribed() {
+        Student student = new StudentBuilder().withName("Clashing Student").withLessonTimes("WED-18:00-20:00").build();
+        model.addStudent(student);
+        UpdateStudentDescriptor descriptor = new UpdateStudentDescriptorBuilder()
+                .withLessonTimes("WED-18:00-20:00", "SUN-12:00-14:00").build();
+        Student updatedStudent = new StudentBuilder(student).withLessonTimes("WED-18:00-20:00", "SUN-12:00-14:00")
+                .build();
+        UpdateCommand updateCommand = new UpdateCommand(student.getName(), descriptor);
+
+        String expectedMessage = String.format(UpdateCommand.MESSAGE_UPDATE_STUDENT_SUCCESS,
+                Messages.format(updatedStudent))
+                + String.format(Messages.MESSAGE_LESSON_CLASH, "SUN-12:00-14:00", BENSON.getName());
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        expectedModel.setStudent(student, updatedStudent);
+
+        assertCommandSuccess(updateCommand, model, expectedMessage, UiState.DETAILS, expectedModel);
+    }
+
     @Test
     public void equals() {
         final UpdateCommand standardCommand = new UpdateCommand(new Name(VALID_NAME_AMY), DESC_AMY);
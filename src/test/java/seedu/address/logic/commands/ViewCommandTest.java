@@ -4,10 +4,13 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalStudents.ALICE;
 import static seedu.address.testutil.TypicalStudents.AMY;
 import static seedu.address.testutil.TypicalStudents.BOB;
 import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
 
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -46,6 +49,13 @@ public class ViewCommandTest {
         assertCommandFailure(viewCommand, model, Messages.MESSAGE_STUDENT_NOT_FOUND);
     }
 
+    @Test
+    public void execute_misspeltStudentName_failureWithSimilarNames() {
+        ViewCommand viewCommand = new ViewCommand(new Name("alice pualine"));
+        assertCommandFailure(viewCommand, model, Messages.getMessageWithSimilarNames(Messages.MESSAGE_STUDENT_NOT_FOUND,
+                List.of(ALICE.getName())));
+    }
+
     @Test
     public void equals() {
         ViewCommand viewAmyCommand = new ViewCommand(AMY.getName());
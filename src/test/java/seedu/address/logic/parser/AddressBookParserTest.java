@@ -30,6 +30,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AddTaskCommand;
+import seedu.address.logic.commands.AgendaCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.DeleteTaskCommand;
@@ -169,6 +170,12 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ViewTasksCommand.COMMAND_WORD + " 3") instanceof ViewTasksCommand);
     }
 
+    @Test
+    public void parseCommand_agenda() throws Exception {
+        assertEquals(new AgendaCommand(AgendaCommand.DEFAULT_COUNT), parser.parseCommand(AgendaCommand.COMMAND_WORD));
+        assertEquals(new AgendaCommand(3), parser.parseCommand(AgendaCommand.COMMAND_WORD + " 3"));
+    }
+
     @Test
     public void parseCommand_view() throws Exception {
         ViewCommand command = (ViewCommand) parser.parseCommand(ViewCommand.COMMAND_WORD + " "
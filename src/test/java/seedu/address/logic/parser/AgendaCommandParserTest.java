@@ -0,0 +1,47 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.AgendaCommand;
+import seedu.address.model.student.task.TaskDeadline;
+
+public class AgendaCommandParserTest {
+    private AgendaCommandParser parser = new AgendaCommandParser();
+
+    @Test
+    public void parse_noArgs_defaultCountFromToday() {
+        assertParseSuccess(parser, "", new AgendaCommand(AgendaCommand.DEFAULT_COUNT));
+        assertParseSuccess(parser, "   ", new AgendaCommand(AgendaCommand.DEFAULT_COUNT));
+    }
+
+    @Test
+    public void parse_validArgs_success() {
+        LocalDate date = LocalDate.of(2024, 12, 25);
+        assertParseSuccess(parser, " 5", new AgendaCommand(5));
+        assertParseSuccess(parser, " d/2024-12-25", new AgendaCommand(date, AgendaCommand.DEFAULT_COUNT));
+        assertParseSuccess(parser, " 3 d/ 2024-12-25 ", new AgendaCommand(date, 3));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, AgendaCommand.MESSAGE_USAGE);
+
+        // invalid count
+        assertParseFailure(parser, " 0", expectedMessage);
+        assertParseFailure(parser, " -1", expectedMessage);
+        assertParseFailure(parser, " five", expectedMessage);
+
+        // invalid date
+        assertParseFailure(parser, " d/2024-02-30", TaskDeadline.MESSAGE_CONSTRAINTS);
+
+        // duplicate prefixes
+        assertParseFailure(parser, " d/2024-12-25 d/2024-12-26",
+                "Multiple values specified for the following single-valued field(s): d/");
+    }
+}
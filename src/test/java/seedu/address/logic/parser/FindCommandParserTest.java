@@ -5,16 +5,22 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.student.LessonTime;
 import seedu.address.model.student.Level;
 import seedu.address.model.student.Name;
 import seedu.address.model.student.Subject;
+import seedu.address.model.student.predicate.CombinedPredicate;
+import seedu.address.model.student.predicate.LessonDayContainsKeywordsPredicate;
 import seedu.address.model.student.predicate.LevelContainsKeywordsPredicate;
 import seedu.address.model.student.predicate.NameContainsKeywordsPredicate;
 import seedu.address.model.student.predicate.SubjectContainsKeywordsPredicate;
+import seedu.address.model.student.predicate.TaskListNotEmptyPredicate;
+import seedu.address.model.student.predicate.TextContainsKeywordsPredicate;
 
 public class FindCommandParserTest {
 
@@ -27,15 +33,50 @@ public class FindCommandParserTest {
     }
 
     @Test
-    public void parse_tooManyArg_throwsParseException() {
-        assertParseFailure(parser, " n/alice l/S1 s/MATH",
+    public void parse_invalidPreamble_throwsParseException() {
+        assertParseFailure(parser, " all n/alice",
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
-        assertParseFailure(parser, " n/alice l/S1",
+        assertParseFailure(parser, " any",
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
-        assertParseFailure(parser, " n/alice s/MATH",
-                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
-        assertParseFailure(parser, " l/S1 s/MATH",
+    }
+
+    @Test
+    public void parse_multipleCriteria_returnsFindCommand() {
+        NameContainsKeywordsPredicate namePredicate = new NameContainsKeywordsPredicate(Arrays.asList("alice"));
+        LevelContainsKeywordsPredicate levelPredicate = new LevelContainsKeywordsPredicate(Arrays.asList("S1 NA"));
+        SubjectContainsKeywordsPredicate subjectPredicate =
+                new SubjectContainsKeywordsPredicate(Arrays.asList("MATH"));
+
+        // all criteria must match
+        FindCommand expectedFindCommand = new FindCommand(
+                new CombinedPredicate(List.of(namePredicate, levelPredicate, subjectPredicate), true));
+        assertParseSuccess(parser, " n/alice l/S1 NA s/MATH", expectedFindCommand);
+        assertParseSuccess(parser, " s/MATH l/S1 NA n/alice", expectedFindCommand);
+
+        // any criterion may match
+        expectedFindCommand = new FindCommand(new CombinedPredicate(List.of(levelPredicate, subjectPredicate), false));
+        assertParseSuccess(parser, " any l/S1 NA s/MATH", expectedFindCommand);
+        assertParseSuccess(parser, " ANY l/S1 NA s/MATH", expectedFindCommand);
+
+        // lesson days and pending tasks
+        expectedFindCommand = new FindCommand(new CombinedPredicate(List.of(
+                new LessonDayContainsKeywordsPredicate(Arrays.asList("mon", "TUE")), new TaskListNotEmptyPredicate()),
+                true));
+        assertParseSuccess(parser, " lt/mon TUE pt/", expectedFindCommand);
+
+        // words in notes and tasks, split and case-folded
+        expectedFindCommand = new FindCommand(new CombinedPredicate(List.of(
+                levelPredicate, new TextContainsKeywordsPredicate(Arrays.asList("macbeth", "s", "essay"))), true));
+        assertParseSuccess(parser, " l/S1 NA k/Macbeth's essay, ESSAY", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidMultipleCriteria_throwsParseException() {
+        assertParseFailure(parser, " n/alice l/S1", Level.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " n/alice lt/Monday", LessonTime.MESSAGE_DAY_CONSTRAINTS);
+        assertParseFailure(parser, " n/alice pt/yes",
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " n/alice k/ ?! ", FindCommandParser.MESSAGE_EMPTY_KEYWORDS);
     }
 
     @Test
@@ -0,0 +1,44 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.OverlapCommand;
+import seedu.address.model.student.LessonTime;
+import seedu.address.model.student.predicate.LessonTimeOverlapsPredicate;
+
+public class OverlapCommandParserTest {
+    private OverlapCommandParser parser = new OverlapCommandParser();
+
+    @Test
+    public void parse_lessonTimeSpecified_success() {
+        OverlapCommand expectedCommand =
+                new OverlapCommand(new LessonTimeOverlapsPredicate(new LessonTime("WED-15:00-17:00")));
+        assertParseSuccess(parser, " lt/WED-15:00-17:00", expectedCommand);
+        assertParseSuccess(parser, " lt/  wed-15:00-17:00  ", expectedCommand);
+    }
+
+    @Test
+    public void parse_invalidValue_failure() {
+        assertParseFailure(parser, " lt/WED-17:00-15:00", LessonTime.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " lt/", LessonTime.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_missingCompulsoryField_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, OverlapCommand.MESSAGE_USAGE);
+
+        // no parameters
+        assertParseFailure(parser, "", expectedMessage);
+
+        // non-empty preamble
+        assertParseFailure(parser, " WED lt/WED-15:00-17:00", expectedMessage);
+
+        // duplicate prefixes
+        assertParseFailure(parser, " lt/WED-15:00-17:00 lt/THU-15:00-17:00",
+                "Multiple values specified for the following single-valued field(s): lt/");
+    }
+}
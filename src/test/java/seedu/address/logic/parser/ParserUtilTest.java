@@ -195,14 +195,14 @@ public class ParserUtilTest {
 
     @Test
     public void parseSubject_validValueWithoutWhitespace_returnsSubject() throws Exception {
-        Subject expectedSubject = new Subject(VALID_SUBJECT_1);
+        Subject expectedSubject = Subject.of(VALID_SUBJECT_1);
         assertEquals(expectedSubject, ParserUtil.parseSubject(VALID_SUBJECT_1));
     }
 
     @Test
     public void parseSubject_validValueWithWhitespace_returnsTrimmedSubject() throws Exception {
         String subjectWithWhitespace = WHITESPACE + VALID_SUBJECT_1 + WHITESPACE;
-        Subject expectedSubject = new Subject(VALID_SUBJECT_1);
+        Subject expectedSubject = Subject.of(VALID_SUBJECT_1);
         assertEquals(expectedSubject, ParserUtil.parseSubject(subjectWithWhitespace));
     }
 
@@ -226,7 +226,7 @@ public class ParserUtilTest {
     public void parseSubjects_collectionWithValidSubjects_returnsSubjectSet() throws Exception {
         Set<Subject> actualSubjectSet = ParserUtil.parseSubjects(Arrays.asList(VALID_SUBJECT_1, VALID_SUBJECT_2));
         Set<Subject> expectedSubjectSet = new HashSet<Subject>(
-                Arrays.asList(new Subject(VALID_SUBJECT_1), new Subject(VALID_SUBJECT_2)));
+                Arrays.asList(Subject.of(VALID_SUBJECT_1), Subject.of(VALID_SUBJECT_2)));
 
         assertEquals(expectedSubjectSet, actualSubjectSet);
     }
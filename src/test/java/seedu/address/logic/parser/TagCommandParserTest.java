@@ -121,7 +121,7 @@ public class TagCommandParserTest {
     public void parse_validLevelInvalidSubject_failure() {
         String command = " n/John Doe l/S2 NA s/Chem";
 
-        assertParseFailure(parser, command, Subject.getValidSubjectMessage(new Level("S2 NA")));
+        assertParseFailure(parser, command, Subject.getValidSubjectMessage(Level.of("S2 NA")));
     }
 
     @Test
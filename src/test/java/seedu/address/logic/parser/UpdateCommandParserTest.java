@@ -258,7 +258,7 @@ public class UpdateCommandParserTest {
     public void parse_validLevelInvalidSubject_failure() {
         String command = " John Doe l/S2 NA s/Chem";
 
-        assertParseFailure(parser, command, Subject.getValidSubjectMessage(new Level("S2 NA")));
+        assertParseFailure(parser, command, Subject.getValidSubjectMessage(Level.of("S2 NA")));
     }
 
     @Test
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_SUBJECT_MATH;
@@ -13,6 +14,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -78,6 +80,35 @@ public class AddressBookTest {
         assertTrue(addressBook.hasStudent(updatedAlice));
     }
 
+    @Test
+    public void findStudent_studentUpdated_returnsUpdatedStudent() {
+        addressBook.addStudent(ALICE);
+        Student updatedAlice = new StudentBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        addressBook.setStudent(ALICE, updatedAlice);
+        assertEquals(Optional.of(updatedAlice), addressBook.findStudent(ALICE.getName()));
+
+        addressBook.removeStudent(updatedAlice);
+        assertEquals(Optional.empty(), addressBook.findStudent(ALICE.getName()));
+    }
+
+    @Test
+    public void getVersion_modifications_versionChanges() {
+        long version = addressBook.getVersion();
+        addressBook.hasStudent(ALICE);
+        assertEquals(version, addressBook.getVersion());
+
+        addressBook.addStudent(ALICE);
+        assertNotEquals(version, addressBook.getVersion());
+
+        version = addressBook.getVersion();
+        addressBook.setStudent(ALICE, new StudentBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build());
+        assertNotEquals(version, addressBook.getVersion());
+
+        version = addressBook.getVersion();
+        addressBook.resetData(new AddressBook());
+        assertNotEquals(version, addressBook.getVersion());
+    }
+
     @Test
     public void getStudentList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getStudentList().remove(0));
@@ -103,6 +134,11 @@ public class AddressBookTest {
         public ObservableList<Student> getStudentList() {
             return students;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 
 }
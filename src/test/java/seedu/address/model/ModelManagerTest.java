@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_STUDENTS;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -10,13 +11,25 @@ import static seedu.address.testutil.TypicalStudents.BENSON;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.student.LessonTime;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Student;
 import seedu.address.model.student.predicate.NameContainsKeywordsPredicate;
+import seedu.address.model.student.predicate.TaskListNotEmptyPredicate;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.StudentBuilder;
 
 public class ModelManagerTest {
 
@@ -88,6 +101,167 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasStudent(ALICE));
     }
 
+    @Test
+    public void findStudent_nullName_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.findStudent(null));
+    }
+
+    @Test
+    public void findStudent_studentNotInAddressBook_returnsEmpty() {
+        assertEquals(Optional.empty(), modelManager.findStudent(ALICE.getName()));
+    }
+
+    @Test
+    public void findStudent_studentFilteredOut_returnsStudent() {
+        modelManager.addStudent(ALICE);
+        modelManager.addStudent(BENSON);
+        modelManager.updateFilteredStudentList(student -> student.isSameStudent(BENSON));
+        assertEquals(Optional.of(ALICE), modelManager.findStudent(new Name("alice pauline")));
+    }
+
+    @Test
+    public void updateFilteredStudentList_withComparator_sortedUntilNextFilter() {
+        modelManager.addStudent(ALICE);
+        modelManager.addStudent(BENSON);
+        Comparator<Student> reverseNames = Comparator.comparing((Student student) -> student.getName().fullName)
+                .reversed();
+
+        modelManager.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS, reverseNames);
+        assertEquals(List.of(BENSON, ALICE), modelManager.getFilteredStudentList());
+
+        // added students are sorted as well
+        Student carl = new StudentBuilder().withName("Carl").build();
+        modelManager.setStudent(ALICE, carl);
+        assertEquals(List.of(carl, BENSON), modelManager.getFilteredStudentList());
+
+        // filter without comparator -> order of the address book
+        modelManager.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+        assertEquals(List.of(carl, BENSON), modelManager.getAddressBook().getStudentList());
+        assertEquals(List.of(carl, BENSON), modelManager.getFilteredStudentList());
+        modelManager.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS, reverseNames.reversed());
+        assertEquals(List.of(BENSON, carl), modelManager.getFilteredStudentList());
+    }
+
+    @Test
+    public void updateFilteredStudentList_samePredicate_onlyChangedStudentsUpdated() {
+        modelManager.addStudent(ALICE);
+        modelManager.addStudent(BENSON);
+        modelManager.updateFilteredStudentList(new TaskListNotEmptyPredicate());
+        assertEquals(List.of(BENSON), modelManager.getFilteredStudentList());
+
+        List<ListChangeListener.Change<? extends Student>> changes = new ArrayList<>();
+        modelManager.getFilteredStudentList().addListener(changes::add);
+
+        // equal predicate -> filtered list left as it is
+        modelManager.updateFilteredStudentList(new TaskListNotEmptyPredicate());
+        assertTrue(changes.isEmpty());
+
+        // changed student no longer matches -> only that student removed
+        Student bensonWithoutTasks = new StudentBuilder(BENSON).withTaskList().build();
+        modelManager.setStudent(BENSON, bensonWithoutTasks);
+        modelManager.updateFilteredStudentList(new TaskListNotEmptyPredicate());
+        assertEquals(List.of(), modelManager.getFilteredStudentList());
+        assertEquals(1, changes.size());
+
+        // show all students after showing all students -> filtered list left as it is
+        changes.clear();
+        modelManager.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+        assertEquals(List.of(ALICE, bensonWithoutTasks), modelManager.getFilteredStudentList());
+        modelManager.addStudent(new StudentBuilder().withName("Carl").build());
+        assertEquals(2, changes.size());
+    }
+
+    @Test
+    public void findMatchingStudents_repeatedQuery_answeredFromCache() {
+        modelManager.addStudent(ALICE);
+        modelManager.addStudent(BENSON);
+        NameContainsKeywordsPredicate query = new NameContainsKeywordsPredicate(List.of("Alice"));
+
+        Set<Student> matches = modelManager.findMatchingStudents(query);
+        assertEquals(Set.of(ALICE), Set.copyOf(matches));
+        assertEquals(0, modelManager.getQueryCacheHitCount());
+        assertEquals(1, modelManager.getQueryCacheMissCount());
+
+        // equal query -> same result returned from the cache
+        assertSame(matches, modelManager.findMatchingStudents(new NameContainsKeywordsPredicate(List.of("Alice"))));
+        assertEquals(1, modelManager.getQueryCacheHitCount());
+
+        // query that cannot be looked up in an index -> students tested once, then cached
+        assertEquals(Set.of(BENSON), Set.copyOf(modelManager.findMatchingStudents(new TaskListNotEmptyPredicate())));
+        modelManager.findMatchingStudents(new TaskListNotEmptyPredicate());
+        assertEquals(2, modelManager.getQueryCacheHitCount());
+        assertEquals(2, modelManager.getQueryCacheMissCount());
+
+        // address book modified -> cached result not returned
+        Student alicia = new StudentBuilder(ALICE).withName("Alicia").build();
+        modelManager.setStudent(ALICE, alicia);
+        assertEquals(Set.of(), modelManager.findMatchingStudents(query));
+        assertEquals(3, modelManager.getQueryCacheMissCount());
+    }
+
+    @Test
+    public void updateFilteredStudentList_repeatedIndexedQuery_filteredListLeftAsItIs() {
+        modelManager.addStudent(ALICE);
+        modelManager.addStudent(BENSON);
+        NameContainsKeywordsPredicate query = new NameContainsKeywordsPredicate(List.of("Alice"));
+        modelManager.updateFilteredStudentList(query.toIndexedPredicate(modelManager));
+        assertEquals(List.of(ALICE), modelManager.getFilteredStudentList());
+
+        List<ListChangeListener.Change<? extends Student>> changes = new ArrayList<>();
+        modelManager.getFilteredStudentList().addListener(changes::add);
+
+        // same query in the same version of the address book -> filtered list left as it is
+        modelManager.updateFilteredStudentList(query.toIndexedPredicate(modelManager));
+        assertTrue(changes.isEmpty());
+        assertEquals(1, modelManager.getQueryCacheHitCount());
+
+        // address book modified -> students matched again
+        modelManager.addStudent(new StudentBuilder().withName("Alice Tan").build());
+        modelManager.updateFilteredStudentList(query.toIndexedPredicate(modelManager));
+        assertEquals(2, modelManager.getFilteredStudentList().size());
+        assertEquals(2, modelManager.getQueryCacheMissCount());
+    }
+
+    @Test
+    public void setStudent_indexedQueryActive_updatedStudentStillFiltered() {
+        modelManager.addStudent(ALICE);
+        modelManager.addStudent(BENSON);
+        NameContainsKeywordsPredicate query = new NameContainsKeywordsPredicate(List.of("Alice"));
+        modelManager.updateFilteredStudentList(query.toIndexedPredicate(modelManager));
+
+        Student editedAlice = new StudentBuilder(ALICE).withPhone("91234567").build();
+        modelManager.setStudent(ALICE, editedAlice);
+        assertEquals(List.of(editedAlice), modelManager.getFilteredStudentList());
+
+        Student editedBenson = new StudentBuilder(BENSON).withName("Alice Benson").build();
+        modelManager.setStudent(BENSON, editedBenson);
+        assertEquals(List.of(editedAlice, editedBenson), modelManager.getFilteredStudentList());
+    }
+
+    @Test
+    public void findLessonClashes() {
+        modelManager.addStudent(ALICE);
+        modelManager.addStudent(BENSON);
+
+        // no lessons -> no clashes
+        assertEquals(Map.of(), modelManager.findLessonClashes(ALICE, ALICE.getLessonTimes()));
+
+        // own lessons -> no clashes
+        assertEquals(Map.of(), modelManager.findLessonClashes(BENSON, BENSON.getLessonTimes()));
+
+        Student student = new StudentBuilder().withName("Clashing Student")
+                .withLessonTimes("WED-18:00-20:00", "SUN-13:00-14:00").build();
+        modelManager.addStudent(student);
+        LessonTime clashingLessonTime = new LessonTime("WED-18:00-20:00");
+        assertEquals(Map.of(clashingLessonTime, List.of(BENSON)),
+                modelManager.findLessonClashes(student, student.getLessonTimes()));
+        assertEquals(Map.of(new LessonTime("WED-17:00-19:00"), List.of(student)),
+                modelManager.findLessonClashes(BENSON, BENSON.getLessonTimes()));
+
+        // only the given lesson times -> clashes of other lessons left out
+        assertEquals(Map.of(), modelManager.findLessonClashes(student, List.of(new LessonTime("SUN-13:00-14:00"))));
+    }
+
     @Test
     public void getFilteredStudentList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredStudentList().remove(0));
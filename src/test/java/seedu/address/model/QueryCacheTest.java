@@ -0,0 +1,96 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.student.Student;
+import seedu.address.model.student.predicate.NameContainsKeywordsPredicate;
+import seedu.address.model.student.predicate.QueryPredicate;
+import seedu.address.model.student.predicate.TaskListNotEmptyPredicate;
+
+public class QueryCacheTest {
+
+    private static final QueryPredicate ALICE_QUERY = new NameContainsKeywordsPredicate(List.of("Alice"));
+    private static final QueryPredicate BENSON_QUERY = new NameContainsKeywordsPredicate(List.of("Benson"));
+    private static final QueryPredicate TASKS_QUERY = new TaskListNotEmptyPredicate();
+
+    private static final Supplier<Set<Student>> UNUSED_FINDER = () -> {
+        throw new AssertionError("Finder should not be called.");
+    };
+
+    @Test
+    public void constructor_invalidCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new QueryCache(0));
+    }
+
+    @Test
+    public void get_null_throwsNullPointerException() {
+        QueryCache queryCache = new QueryCache();
+        assertThrows(NullPointerException.class, () -> queryCache.get(null, 0, Set::of));
+        assertThrows(NullPointerException.class, () -> queryCache.get(ALICE_QUERY, 0, null));
+    }
+
+    @Test
+    public void get_equalQuerySameVersion_cachedResultReturned() {
+        QueryCache queryCache = new QueryCache();
+        Set<Student> matches = Set.of(ALICE);
+        assertSame(matches, queryCache.get(ALICE_QUERY, 0, () -> matches));
+        assertSame(matches, queryCache.get(new NameContainsKeywordsPredicate(List.of("Alice")), 0, UNUSED_FINDER));
+        assertEquals(1, queryCache.getHitCount());
+        assertEquals(1, queryCache.getMissCount());
+    }
+
+    @Test
+    public void find_notFound_nothingCached() {
+        QueryCache queryCache = new QueryCache();
+        assertEquals(Optional.empty(), queryCache.find(TASKS_QUERY, 0, Optional::empty));
+        assertEquals(0, queryCache.size());
+
+        // found -> cached for get as well
+        Set<Student> matches = Set.of(BENSON);
+        assertEquals(Optional.of(matches), queryCache.find(TASKS_QUERY, 0, () -> Optional.of(matches)));
+        assertSame(matches, queryCache.get(TASKS_QUERY, 0, UNUSED_FINDER));
+        assertEquals(1, queryCache.getHitCount());
+        assertEquals(2, queryCache.getMissCount());
+    }
+
+    @Test
+    public void get_differentVersion_resultFoundAgain() {
+        QueryCache queryCache = new QueryCache();
+        queryCache.get(ALICE_QUERY, 0, () -> Set.of(ALICE));
+        Set<Student> newMatches = Set.of();
+        assertSame(newMatches, queryCache.get(ALICE_QUERY, 1, () -> newMatches));
+        assertSame(newMatches, queryCache.get(ALICE_QUERY, 1, UNUSED_FINDER));
+        assertEquals(1, queryCache.getHitCount());
+        assertEquals(2, queryCache.getMissCount());
+        assertEquals(1, queryCache.size());
+    }
+
+    @Test
+    public void get_capacityExceeded_leastRecentlyUsedEvicted() {
+        QueryCache queryCache = new QueryCache(2);
+        queryCache.get(ALICE_QUERY, 0, () -> Set.of(ALICE));
+        queryCache.get(BENSON_QUERY, 0, () -> Set.of(BENSON));
+
+        // Alice used more recently than Benson -> Benson evicted
+        queryCache.get(ALICE_QUERY, 0, UNUSED_FINDER);
+        queryCache.get(TASKS_QUERY, 0, () -> Set.of(BENSON));
+        assertEquals(2, queryCache.size());
+        queryCache.get(ALICE_QUERY, 0, UNUSED_FINDER);
+        queryCache.get(TASKS_QUERY, 0, UNUSED_FINDER);
+        assertEquals(3, queryCache.getHitCount());
+
+        queryCache.get(BENSON_QUERY, 0, () -> Set.of(BENSON));
+        assertEquals(4, queryCache.getMissCount());
+    }
+}
@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.LocalTime;
+
 import org.junit.jupiter.api.Test;
 
 public class LessonTimeTest {
@@ -94,6 +96,35 @@ public class LessonTimeTest {
         assertFalse(lt.canMerge(new LessonTime("SUN-14:00-15:30")));
     }
 
+    @Test
+    public void overlaps() {
+        LessonTime lt = new LessonTime("SUN-11:00-13:30");
+
+        // sharing some time -> returns true
+        assertTrue(lt.overlaps(new LessonTime("SUN-11:00-13:30")));
+        assertTrue(lt.overlaps(new LessonTime("SUN-13:00-14:30")));
+        assertTrue(lt.overlaps(new LessonTime("SUN-10:00-11:30")));
+        assertTrue(lt.overlaps(new LessonTime("SUN-11:30-12:30")));
+        assertTrue(lt.overlaps(new LessonTime("SUN-10:00-14:00")));
+
+        // only touching -> returns false
+        assertFalse(lt.overlaps(new LessonTime("SUN-13:30-14:30")));
+        assertFalse(lt.overlaps(new LessonTime("SUN-10:00-11:00")));
+
+        // different day -> returns false
+        assertFalse(lt.overlaps(new LessonTime("SAT-11:00-13:30")));
+        assertFalse(new LessonTime("MON-00:00-23:59").overlaps(new LessonTime("TUE-00:00-23:59")));
+    }
+
+    @Test
+    public void getMinuteOfDay() {
+        LessonTime lt = new LessonTime("WED-09:15-23:59");
+        assertEquals(9 * 60 + 15, lt.getStartMinuteOfDay());
+        assertEquals(23 * 60 + 59, lt.getEndMinuteOfDay());
+        assertEquals(LocalTime.of(9, 15), lt.getLessonStart());
+        assertEquals(LocalTime.of(23, 59), lt.getLessonEnd());
+    }
+
     @Test
     public void compareTo() {
         LessonTime lt = new LessonTime("SUN-11:00-13:00");
@@ -125,6 +156,14 @@ public class LessonTimeTest {
         assertEquals(ltMidnight.compareTo(ltEarlyMorning), 1);
     }
 
+    @Test
+    public void toLessonDayOrdinal() {
+        LessonTime lt = new LessonTime("THU-11:00-13:30");
+        assertEquals(lt.getLessonDayOrdinal(), LessonTime.toLessonDayOrdinal("THU"));
+        assertEquals(lt.getLessonDayOrdinal(), LessonTime.toLessonDayOrdinal("thu"));
+        assertThrows(IllegalArgumentException.class, () -> LessonTime.toLessonDayOrdinal("THURSDAY"));
+    }
+
     @Test
     public void toStringTest() {
         LessonTime lt = new LessonTime("SUN-11:00-13:30");
@@ -2,6 +2,7 @@ package seedu.address.model.student;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -10,14 +11,14 @@ import org.junit.jupiter.api.Test;
 public class LevelTest {
 
     @Test
-    public void constructor_null_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new Level(null));
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> Level.of(null));
     }
 
     @Test
-    public void constructor_invalidLevel_throwsIllegalArgumentException() {
+    public void of_invalidLevel_throwsIllegalArgumentException() {
         String invalidLevel = "S7";
-        assertThrows(IllegalArgumentException.class, () -> new Level(invalidLevel));
+        assertThrows(IllegalArgumentException.class, () -> Level.of(invalidLevel));
     }
 
     @Test
@@ -33,6 +34,7 @@ public class LevelTest {
         assertFalse(Level.isValidLevelName("S5 EXPRESS"));
         assertFalse(Level.isValidLevelName("S1 NONE"));
         assertFalse(Level.isValidLevelName("NONE EXPRESS"));
+        assertFalse(Level.isValidLevelName("none express"));
 
         // valid levels
         assertTrue(Level.isValidLevelName("NONE NONE"));
@@ -73,10 +75,10 @@ public class LevelTest {
 
     @Test
     public void equals() {
-        Level level = new Level("S1 EXPRESS");
+        Level level = Level.of("S1 EXPRESS");
 
         // same values -> returns true
-        assertTrue(level.equals(new Level("S1 EXPRESS")));
+        assertTrue(level.equals(Level.of("S1 EXPRESS")));
 
         // same object -> returns true
         assertTrue(level.equals(level));
@@ -88,19 +90,38 @@ public class LevelTest {
         assertFalse(level.equals(5.0f));
 
         // different values -> returns false
-        assertFalse(level.equals(new Level("S2 EXPRESS")));
+        assertFalse(level.equals(Level.of("S2 EXPRESS")));
 
         // case-insensitive ->  returns true
-        assertTrue(level.equals(new Level("s1 express")));
+        assertTrue(level.equals(Level.of("s1 express")));
 
         // Ignore multi-spacing ->  returns true
-        assertTrue(level.equals(new Level("s1   express")));
+        assertTrue(level.equals(Level.of("s1   express")));
+    }
+
+    @Test
+    public void of_sameLevel_returnsSameInstance() {
+        assertSame(Level.of("S1 EXPRESS"), Level.of("s1   express"));
+        assertSame(Level.NONE, Level.of("None None"));
+        assertSame(Level.of("S5 NA"), Level.fromOrdinals(Level.of("S5 NA").getYearOrdinal(),
+                Level.of("S5 NA").getTrackOrdinal()));
+    }
+
+    @Test
+    public void fromOrdinals_invalidLevel_throwsIllegalArgumentException() {
+        Level s5Na = Level.of("S5 NA");
+        Level s1Express = Level.of("S1 EXPRESS");
+        assertThrows(IllegalArgumentException.class, () ->
+                Level.fromOrdinals(s5Na.getYearOrdinal(), s1Express.getTrackOrdinal()));
+        assertThrows(IllegalArgumentException.class, () ->
+                Level.fromOrdinals(Level.NONE.getYearOrdinal(), s1Express.getTrackOrdinal()));
+        assertThrows(IllegalArgumentException.class, () -> Level.fromOrdinals(-1, 0));
     }
 
     @Test
     public void toStringTest() {
-        Level l = new Level("S1 EXPRESS");
-        Level l2 = new Level("s1 express");
+        Level l = Level.of("S1 EXPRESS");
+        Level l2 = Level.of("s1 express");
         String expected = "S1 EXPRESS";
         assertEquals(l.toString(), expected);
         assertEquals(l2.toString(), expected);
@@ -13,6 +13,8 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalStudents.ALICE;
 import static seedu.address.testutil.TypicalStudents.BOB;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.testutil.StudentBuilder;
@@ -107,6 +109,23 @@ public class StudentTest {
         assertFalse(ALICE.equals(updatedAlice));
     }
 
+    @Test
+    public void constructor_detailsLoader_loadedOnceOnFirstAccess() {
+        AtomicInteger loadCount = new AtomicInteger();
+        Student student = new Student(ALICE.getName(), ALICE.getSubjects(), ALICE.getLevel(), () -> {
+            loadCount.incrementAndGet();
+            return new Student.Details(ALICE.getPhone(), ALICE.getEmergencyContact(), ALICE.getAddress(),
+                    ALICE.getNote(), ALICE.getTaskList(), ALICE.getLessonTimes());
+        });
+
+        assertTrue(student.isSameStudent(ALICE));
+        assertEquals(0, loadCount.get());
+
+        assertEquals(ALICE, student);
+        assertEquals(ALICE.getPhone(), student.getPhone());
+        assertEquals(1, loadCount.get());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = Student.class.getCanonicalName() + "{name=" + ALICE.getName() + ", phone=" + ALICE.getPhone()
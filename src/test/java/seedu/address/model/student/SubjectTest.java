@@ -2,6 +2,7 @@ package seedu.address.model.student;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.INVALID_SUBJECT;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_SUBJECT_ENGLISH;
@@ -13,17 +14,17 @@ import java.util.Set;
 import org.junit.jupiter.api.Test;
 
 public class SubjectTest {
-    private static final Set<Subject> SUBJECT_ARRAY = Set.of(new Subject(VALID_SUBJECT_ENGLISH));
+    private static final Set<Subject> SUBJECT_ARRAY = Set.of(Subject.of(VALID_SUBJECT_ENGLISH));
 
     @Test
-    public void constructor_null_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new Subject(null));
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> Subject.of(null));
     }
 
     @Test
-    public void constructor_invalidSubjectName_throwsIllegalArgumentException() {
+    public void of_invalidSubjectName_throwsIllegalArgumentException() {
         String invalidSubjectName = "";
-        assertThrows(IllegalArgumentException.class, () -> new Subject(invalidSubjectName));
+        assertThrows(IllegalArgumentException.class, () -> Subject.of(invalidSubjectName));
     }
 
     @Test
@@ -42,40 +43,40 @@ public class SubjectTest {
     @Test
     public void isValidSubjectNameByLevel_invalidLevel_failure() {
         assertFalse(Subject.isValidSubjectNameByLevel(
-                new Level("NONE NONE"), VALID_SUBJECT_ENGLISH));
+                Level.of("NONE NONE"), VALID_SUBJECT_ENGLISH));
     }
 
     @Test
     public void isValidSubjectNameByLevel_validLevel_success() {
         assertTrue(Subject.isValidSubjectNameByLevel(
-                new Level("S1 EXPRESS"), VALID_SUBJECT_ENGLISH));
+                Level.of("S1 EXPRESS"), VALID_SUBJECT_ENGLISH));
     }
 
     @Test
     public void isValidSubjectNameByLevel_invalidSubject_throwsIllegalArgumentException() {
         assertThrows(IllegalArgumentException.class, () ->
-                Subject.isValidSubjectNameByLevel(new Level("S1 EXPRESS"), INVALID_SUBJECT));
+                Subject.isValidSubjectNameByLevel(Level.of("S1 EXPRESS"), INVALID_SUBJECT));
     }
 
     @Test
     public void isValidSubjectNameByLevel_validSubject_success() {
-        assertTrue(Subject.isValidSubjectNameByLevel(new Level("S1 EXPRESS"), VALID_SUBJECT_MATH));
+        assertTrue(Subject.isValidSubjectNameByLevel(Level.of("S1 EXPRESS"), VALID_SUBJECT_MATH));
     }
 
     @Test
     public void isValidSubjectsByLevel_invalidLevel_failure() {
-        assertFalse(Subject.isValidSubjectsByLevel(new Level("NONE NONE"), SUBJECT_ARRAY));
+        assertFalse(Subject.isValidSubjectsByLevel(Level.of("NONE NONE"), SUBJECT_ARRAY));
         assertFalse(Subject.isValidSubjectsByLevel(null, SUBJECT_ARRAY));
     }
 
     @Test
     public void subject_case_insensitive() {
-        assertTrue(new Subject("MATH").equals(new Subject("math")));
+        assertTrue(Subject.of("MATH").equals(Subject.of("math")));
     }
 
     @Test
     public void getValidSubjectMessage_invalidLevel() {
-        assertEquals(Subject.getValidSubjectMessage(new Level("NONE NONE")), Subject.MESSAGE_LEVEL_NEEDED);
+        assertEquals(Subject.getValidSubjectMessage(Level.of("NONE NONE")), Subject.MESSAGE_LEVEL_NEEDED);
         assertEquals(Subject.getValidSubjectMessage(null), Subject.MESSAGE_LEVEL_NEEDED);
     }
 
@@ -91,18 +92,28 @@ public class SubjectTest {
                 + "GEOGRAPHY, SOCIAL_STUDIES, ENGLISH, CHINESE, HIGHER_CHINESE, MALAY, HIGHER_MALAY, TAMIL, "
                 + "HIGHER_TAMIL, HINDI]";
 
-        assertEquals(Subject.getValidSubjectMessage(new Level("S3 IP")),
+        assertEquals(Subject.getValidSubjectMessage(Level.of("S3 IP")),
                 String.format(expectedMessageUpperSec, "S3 IP"));
-        assertEquals(Subject.getValidSubjectMessage(new Level("S1 NT")),
+        assertEquals(Subject.getValidSubjectMessage(Level.of("S1 NT")),
                 String.format(expectedMessageLowerSec, "S1 NT"));
     }
 
+    @Test
+    public void toMaskAndFromMask_roundTrip_sameSubjects() {
+        Set<Subject> subjects = Set.of(Subject.of("HINDI"), Subject.of(VALID_SUBJECT_MATH),
+                Subject.of(VALID_SUBJECT_ENGLISH));
+        assertEquals(subjects, Subject.fromMask(Subject.toMask(subjects)));
+
+        assertEquals(0, Subject.toMask(Set.of()));
+        assertEquals(Set.of(), Subject.fromMask(0));
+    }
+
     @Test
     public void equals() {
-        Subject math = new Subject("MATH");
+        Subject math = Subject.of("MATH");
 
         // same values -> returns true
-        assertTrue(math.equals(new Subject("MATH")));
+        assertTrue(math.equals(Subject.of("MATH")));
 
         // same object -> returns true
         assertTrue(math.equals(math));
@@ -114,17 +125,25 @@ public class SubjectTest {
         assertFalse(math.equals(5.0f));
 
         // different values -> returns false
-        assertFalse(math.equals(new Subject("Chinese")));
+        assertFalse(math.equals(Subject.of("Chinese")));
 
         // case-insensitive -> return true
-        assertTrue(math.equals(new Subject("math")));
+        assertTrue(math.equals(Subject.of("math")));
+    }
+
+    @Test
+    public void of_sameSubject_returnsSameInstance() {
+        Subject math = Subject.of("MATH");
+        assertSame(math, Subject.of("mAtH"));
+        assertSame(math, Subject.fromOrdinal(math.getOrdinal()));
+        assertSame(math, Subject.fromMask(Subject.toMask(Set.of(math))).iterator().next());
     }
 
     @Test
     public void toStringTest() {
-        Subject s = new Subject("MATH");
-        Subject s2 = new Subject("math");
-        Subject s3 = new Subject("mAtH");
+        Subject s = Subject.of("MATH");
+        Subject s2 = Subject.of("math");
+        Subject s3 = Subject.of("mAtH");
         String expected = "[MATH]";
         assertEquals(s.toString(), expected);
         assertEquals(s2.toString(), expected);
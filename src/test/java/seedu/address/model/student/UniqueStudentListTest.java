@@ -8,16 +8,26 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_SUBJECT_MATH;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalStudents.ALICE;
 import static seedu.address.testutil.TypicalStudents.BOB;
+import static seedu.address.testutil.TypicalTasks.GRADING_TASK;
+import static seedu.address.testutil.TypicalTasks.MARKING_TASK;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.student.exceptions.DuplicateStudentException;
 import seedu.address.model.student.exceptions.StudentNotFoundException;
+import seedu.address.model.student.task.DueTask;
+import seedu.address.model.student.task.Task;
 import seedu.address.testutil.StudentBuilder;
+import seedu.address.testutil.TaskBuilder;
 
 public class UniqueStudentListTest {
 
@@ -102,6 +112,14 @@ public class UniqueStudentListTest {
         assertEquals(expectedUniqueStudentList, uniqueStudentList);
     }
 
+    @Test
+    public void setStudent_updatedStudentHasDifferentIdentity_replacesIdentity() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.setStudent(ALICE, BOB);
+        assertFalse(uniqueStudentList.contains(ALICE));
+        assertTrue(uniqueStudentList.contains(BOB));
+    }
+
     @Test
     public void setStudent_updatedStudentHasNonUniqueIdentity_throwsDuplicateStudentException() {
         uniqueStudentList.add(ALICE);
@@ -127,6 +145,15 @@ public class UniqueStudentListTest {
         assertEquals(expectedUniqueStudentList, uniqueStudentList);
     }
 
+    @Test
+    public void remove_existingStudent_studentNoLongerContained() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.remove(ALICE);
+        assertFalse(uniqueStudentList.contains(ALICE));
+        uniqueStudentList.add(ALICE);
+        assertTrue(uniqueStudentList.contains(ALICE));
+    }
+
     @Test
     public void setStudents_nullUniqueStudentList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueStudentList.setStudents((UniqueStudentList) null));
@@ -156,12 +183,303 @@ public class UniqueStudentListTest {
         assertEquals(expectedUniqueStudentList, uniqueStudentList);
     }
 
+    @Test
+    public void setStudents_list_replacesIdentities() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.setStudents(Collections.singletonList(BOB));
+        assertFalse(uniqueStudentList.contains(ALICE));
+        assertTrue(uniqueStudentList.contains(BOB));
+    }
+
     @Test
     public void setStudents_listWithDuplicateStudents_throwsDuplicateStudentException() {
         List<Student> listWithDuplicateStudents = Arrays.asList(ALICE, ALICE);
         assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.setStudents(listWithDuplicateStudents));
     }
 
+    @Test
+    public void setStudents_listWithDuplicateStudents_keepsOriginalStudents() {
+        uniqueStudentList.add(BOB);
+        Student updatedAlice = new StudentBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        List<Student> listWithDuplicateStudents = Arrays.asList(ALICE, updatedAlice);
+        assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.setStudents(listWithDuplicateStudents));
+        assertTrue(uniqueStudentList.contains(BOB));
+        assertFalse(uniqueStudentList.contains(ALICE));
+    }
+
+    @Test
+    public void findByNameTokens_modifications_indexUpdated() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BOB);
+        assertEquals(Set.of(ALICE), uniqueStudentList.findByNameTokens(List.of("aLiCe")));
+        assertEquals(Set.of(ALICE, BOB), uniqueStudentList.findByNameTokens(List.of("Pauline", "bob")));
+        assertEquals(Set.of(), uniqueStudentList.findByNameTokens(List.of("Ali")));
+
+        Student renamedAlice = new StudentBuilder(ALICE).withName("Alicia Pauline").build();
+        uniqueStudentList.setStudent(ALICE, renamedAlice);
+        assertEquals(Set.of(), uniqueStudentList.findByNameTokens(List.of("alice")));
+        assertEquals(Set.of(renamedAlice), uniqueStudentList.findByNameTokens(List.of("pauline")));
+
+        uniqueStudentList.remove(BOB);
+        assertEquals(Set.of(), uniqueStudentList.findByNameTokens(List.of("bob")));
+
+        uniqueStudentList.setStudents(List.of(ALICE, BOB));
+        assertEquals(Set.of(ALICE, BOB), uniqueStudentList.findByNameTokens(List.of("alice", "bob")));
+        assertEquals(Set.of(), uniqueStudentList.findByNameTokens(List.of("alicia")));
+    }
+
+    @Test
+    public void findBySubjects_modifications_indexUpdated() {
+        Student physics = new StudentBuilder().withName("Physics").withSubjects("PHYSICS").build();
+        Student math = new StudentBuilder().withName("Math").withSubjects("MATH").build();
+        Student mathAndPhysics = new StudentBuilder().withName("Both").withSubjects("MATH", "PHYSICS").build();
+        int mathMask = Subject.toMask(Set.of(Subject.of("MATH")));
+        int physicsMask = Subject.toMask(Set.of(Subject.of("PHYSICS")));
+
+        uniqueStudentList.add(physics);
+        uniqueStudentList.add(math);
+        uniqueStudentList.add(mathAndPhysics);
+        assertEquals(Set.of(math, mathAndPhysics), uniqueStudentList.findBySubjects(mathMask));
+        assertEquals(Set.of(physics, math, mathAndPhysics),
+                uniqueStudentList.findBySubjects(mathMask | physicsMask));
+
+        // removal shifts the positions of later students
+        uniqueStudentList.remove(physics);
+        assertEquals(Set.of(mathAndPhysics), uniqueStudentList.findBySubjects(physicsMask));
+        assertEquals(Set.of(math, mathAndPhysics), uniqueStudentList.findBySubjects(mathMask));
+
+        Student englishOnly = new StudentBuilder(math).withSubjects("ENGLISH").build();
+        uniqueStudentList.setStudent(math, englishOnly);
+        assertEquals(Set.of(mathAndPhysics), uniqueStudentList.findBySubjects(mathMask));
+
+        uniqueStudentList.setStudents(List.of(math, physics));
+        assertEquals(Set.of(physics), uniqueStudentList.findBySubjects(physicsMask));
+        assertEquals(Set.of(), uniqueStudentList.findBySubjects(0));
+    }
+
+    @Test
+    public void findByLevel_modifications_indexUpdated() {
+        Level s1 = Level.of("S1 EXPRESS");
+        Level s2 = Level.of("S2 NA");
+        Student first = new StudentBuilder().withName("First").withLevel("S1 EXPRESS").build();
+        Student second = new StudentBuilder().withName("Second").withLevel("S1 EXPRESS").build();
+
+        uniqueStudentList.add(first);
+        uniqueStudentList.add(second);
+        assertEquals(Set.of(first, second), uniqueStudentList.findByLevel(s1));
+        assertTrue(uniqueStudentList.findByLevel(s2).isEmpty());
+
+        Student promoted = new StudentBuilder(second).withLevel("S2 NA").build();
+        uniqueStudentList.setStudent(second, promoted);
+        assertEquals(Set.of(first), uniqueStudentList.findByLevel(s1));
+        assertEquals(Set.of(promoted), uniqueStudentList.findByLevel(s2));
+
+        uniqueStudentList.remove(first);
+        assertTrue(uniqueStudentList.findByLevel(s1).isEmpty());
+
+        uniqueStudentList.setStudents(List.of(first, second));
+        assertEquals(Set.of(first, second), uniqueStudentList.findByLevel(s1));
+        assertTrue(uniqueStudentList.findByLevel(s2).isEmpty());
+    }
+
+    @Test
+    public void findByLessonTime_modifications_indexUpdated() {
+        Student morning = new StudentBuilder().withName("Morning").withLessonTimes("MON-09:00-11:00").build();
+        Student longLesson = new StudentBuilder().withName("Long Lesson")
+                .withLessonTimes("MON-08:00-14:00", "TUE-10:00-11:00").build();
+        uniqueStudentList.add(morning);
+        LessonTime mondayNoon = new LessonTime("MON-12:00-13:30");
+        LessonTime mondayTen = new LessonTime("MON-10:00-10:30");
+        assertEquals(Set.of(morning), uniqueStudentList.findByLessonTime(mondayTen));
+
+        // index built -> kept in sync
+        uniqueStudentList.add(longLesson);
+        assertEquals(Set.of(morning, longLesson), uniqueStudentList.findByLessonTime(mondayTen));
+        assertEquals(Set.of(longLesson), uniqueStudentList.findByLessonTime(mondayNoon));
+        assertEquals(Set.of(), uniqueStudentList.findByLessonTime(new LessonTime("WED-10:00-10:30")));
+
+        Student afternoon = new StudentBuilder(morning).withLessonTimes("MON-13:00-15:00").build();
+        uniqueStudentList.setStudent(morning, afternoon);
+        assertEquals(Set.of(longLesson), uniqueStudentList.findByLessonTime(mondayTen));
+        assertEquals(Set.of(afternoon, longLesson), uniqueStudentList.findByLessonTime(mondayNoon));
+
+        uniqueStudentList.remove(longLesson);
+        assertEquals(Set.of(), uniqueStudentList.findByLessonTime(mondayTen));
+        assertEquals(Set.of(afternoon), uniqueStudentList.findByLessonTime(mondayNoon));
+
+        uniqueStudentList.setStudents(List.of(morning));
+        assertEquals(Set.of(morning), uniqueStudentList.findByLessonTime(mondayTen));
+        assertEquals(Set.of(), uniqueStudentList.findByLessonTime(mondayNoon));
+    }
+
+    @Test
+    public void findWithTasksAndByLessonDays_modifications_tableUpdated() {
+        Task essay = new TaskBuilder().withTaskDescription("Essay").withTaskDeadline("2024-06-01").build();
+        Student monday = new StudentBuilder().withName("Monday").withLessonTimes("MON-09:00-11:00").build();
+        Student tuesday = new StudentBuilder().withName("Tuesday").withLessonTimes("TUE-09:00-11:00")
+                .withTaskList(essay).build();
+        Student both = new StudentBuilder().withName("Both")
+                .withLessonTimes("MON-12:00-13:00", "TUE-12:00-13:00").withTaskList(essay).build();
+        int mondayMask = 1 << LessonTime.toLessonDayOrdinal("MON");
+        int tuesdayMask = 1 << LessonTime.toLessonDayOrdinal("TUE");
+        uniqueStudentList.add(monday);
+        uniqueStudentList.add(tuesday);
+        assertEquals(Set.of(tuesday), uniqueStudentList.findWithTasks());
+
+        // table built -> kept in sync
+        uniqueStudentList.add(both);
+        assertEquals(Set.of(tuesday, both), uniqueStudentList.findWithTasks());
+        assertEquals(Set.of(monday, both), uniqueStudentList.findByLessonDays(mondayMask));
+        assertEquals(Set.of(monday, tuesday, both), uniqueStudentList.findByLessonDays(mondayMask | tuesdayMask));
+
+        // removing a row moves the last row into its place
+        uniqueStudentList.remove(monday);
+        assertEquals(Set.of(both), uniqueStudentList.findByLessonDays(mondayMask));
+        assertEquals(Set.of(tuesday, both), uniqueStudentList.findByLessonDays(tuesdayMask));
+
+        Student noTasks = new StudentBuilder(tuesday).withTaskList().build();
+        uniqueStudentList.setStudent(tuesday, noTasks);
+        assertEquals(Set.of(both), uniqueStudentList.findWithTasks());
+        assertEquals(Set.of(noTasks, both), uniqueStudentList.findByLessonDays(tuesdayMask));
+
+        uniqueStudentList.setStudents(List.of(monday));
+        assertEquals(Set.of(), uniqueStudentList.findWithTasks());
+        assertEquals(Set.of(monday), uniqueStudentList.findByLessonDays(mondayMask));
+    }
+
+    @Test
+    public void findWithTasks_largeTable_scannedInParallel() {
+        Task essay = new TaskBuilder().withTaskDescription("Essay").withTaskDeadline("2024-06-01").build();
+        List<Student> students = new ArrayList<>();
+        Set<Student> withTasks = new HashSet<>();
+        for (int i = 0; i < StudentTable.PARALLEL_THRESHOLD + 1; i++) {
+            StudentBuilder builder = new StudentBuilder().withName("Student " + i);
+            Student student = i % 3 == 0 ? builder.withTaskList(essay).build() : builder.build();
+            students.add(student);
+            if (i % 3 == 0) {
+                withTasks.add(student);
+            }
+        }
+        uniqueStudentList.setStudents(students);
+        assertEquals(withTasks, uniqueStudentList.findWithTasks());
+    }
+
+    @Test
+    public void findTasksDueFrom_modifications_indexUpdated() {
+        Task essay = new TaskBuilder().withTaskDescription("Essay").withTaskDeadline("2024-06-01").build();
+        Student marker = new StudentBuilder().withName("Marker").withTaskList(MARKING_TASK, GRADING_TASK).build();
+        Student writer = new StudentBuilder().withName("Writer").withTaskList(essay).build();
+        uniqueStudentList.add(marker);
+        LocalDate newYear = LocalDate.of(2024, 1, 1);
+        assertEquals(List.of(new DueTask(marker, MARKING_TASK), new DueTask(marker, GRADING_TASK)),
+                uniqueStudentList.findTasksDueFrom(newYear, 5));
+
+        // index built -> kept in sync
+        uniqueStudentList.add(writer);
+        assertEquals(List.of(new DueTask(marker, MARKING_TASK), new DueTask(writer, essay)),
+                uniqueStudentList.findTasksDueFrom(newYear, 2));
+        assertEquals(List.of(new DueTask(writer, essay), new DueTask(marker, GRADING_TASK)),
+                uniqueStudentList.findTasksDueFrom(LocalDate.of(2024, 1, 2), 5));
+        assertEquals(List.of(), uniqueStudentList.findTasksDueFrom(LocalDate.of(2025, 1, 1), 5));
+
+        Student graded = new StudentBuilder(marker).withTaskList(GRADING_TASK).build();
+        uniqueStudentList.setStudent(marker, graded);
+        assertEquals(List.of(new DueTask(writer, essay), new DueTask(graded, GRADING_TASK)),
+                uniqueStudentList.findTasksDueFrom(newYear, 5));
+
+        uniqueStudentList.remove(writer);
+        assertEquals(List.of(new DueTask(graded, GRADING_TASK)), uniqueStudentList.findTasksDueFrom(newYear, 5));
+
+        uniqueStudentList.setStudents(List.of(writer));
+        assertEquals(List.of(new DueTask(writer, essay)), uniqueStudentList.findTasksDueFrom(newYear, 5));
+    }
+
+    @Test
+    public void findWithTasksDueBetween_modifications_indexUpdated() {
+        Student marker = new StudentBuilder().withName("Marker").withTaskList(MARKING_TASK, GRADING_TASK).build();
+        uniqueStudentList.add(marker);
+        LocalDate newYear = LocalDate.of(2024, 1, 1);
+        assertEquals(Set.of(marker), uniqueStudentList.findWithTasksDueBetween(newYear, newYear));
+        assertEquals(Set.of(),
+                uniqueStudentList.findWithTasksDueBetween(newYear.plusDays(1), LocalDate.of(2024, 12, 30)));
+
+        // index built -> kept in sync
+        Student graded = new StudentBuilder(marker).withTaskList(GRADING_TASK).build();
+        uniqueStudentList.setStudent(marker, graded);
+        assertEquals(Set.of(), uniqueStudentList.findWithTasksDueBetween(newYear, newYear));
+        assertEquals(Set.of(graded), uniqueStudentList.findWithTasksDueBetween(newYear, LocalDate.of(2024, 12, 31)));
+    }
+
+    @Test
+    public void findByWords_modifications_indexUpdated() {
+        Student reader = new StudentBuilder().withName("Reader").withNote("Reading Macbeth").build();
+        Student writer = new StudentBuilder().withName("Writer").withNote("Essay, essay")
+                .withTaskList(new TaskBuilder().withTaskDescription("Macbeth essay").build()).build();
+        uniqueStudentList.add(reader);
+        assertEquals(Map.of(reader, 1), uniqueStudentList.findByWords(List.of("MACBETH")));
+
+        // index built -> kept in sync
+        uniqueStudentList.add(writer);
+        assertEquals(Map.of(reader, 1, writer, 1), uniqueStudentList.findByWords(List.of("macbeth")));
+        assertEquals(Map.of(reader, 1, writer, 4), uniqueStudentList.findByWords(List.of("macbeth", "essay")));
+        assertEquals(Map.of(), uniqueStudentList.findByWords(List.of("poem")));
+
+        Student poet = new StudentBuilder(reader).withNote("Reading poems").build();
+        uniqueStudentList.setStudent(reader, poet);
+        assertEquals(Map.of(writer, 1), uniqueStudentList.findByWords(List.of("macbeth")));
+        assertEquals(Map.of(poet, 1), uniqueStudentList.findByWords(List.of("reading")));
+
+        uniqueStudentList.remove(writer);
+        assertEquals(Map.of(), uniqueStudentList.findByWords(List.of("macbeth", "essay")));
+
+        uniqueStudentList.setStudents(List.of(writer));
+        assertEquals(Map.of(writer, 3), uniqueStudentList.findByWords(List.of("essay")));
+    }
+
+    @Test
+    public void findSimilarNames_modifications_indexUpdated() {
+        Student alice = new StudentBuilder().withName("Alice Tan").build();
+        Student alicia = new StudentBuilder().withName("Alicia Tan").build();
+        Student bob = new StudentBuilder().withName("Bob Lim").build();
+        uniqueStudentList.add(alice);
+        uniqueStudentList.add(bob);
+
+        // within distance, ignoring case
+        assertEquals(List.of(alice.getName()), uniqueStudentList.findSimilarNames(new Name("ALICE TNA"), 2, 3));
+        assertEquals(List.of(), uniqueStudentList.findSimilarNames(new Name("Alice Tanner"), 2, 3));
+
+        // index built -> kept in sync, closest first, then alphabetical
+        uniqueStudentList.add(alicia);
+        assertEquals(List.of(alice.getName(), alicia.getName()),
+                uniqueStudentList.findSimilarNames(new Name("Alici Tan"), 2, 3));
+        assertEquals(List.of(alice.getName()), uniqueStudentList.findSimilarNames(new Name("Alici Tan"), 2, 1));
+        assertEquals(List.of(alicia.getName(), alice.getName()),
+                uniqueStudentList.findSimilarNames(new Name("alicia tan"), 2, 3));
+
+        Student alison = new StudentBuilder(alice).withName("Alison Tan").build();
+        uniqueStudentList.setStudent(alice, alison);
+        assertEquals(List.of(alicia.getName()), uniqueStudentList.findSimilarNames(new Name("Alice Tan"), 2, 3));
+        assertEquals(List.of(alison.getName()), uniqueStudentList.findSimilarNames(new Name("Alison Tam"), 2, 3));
+
+        // removed names outnumber the others -> still not found after the index is rebuilt
+        uniqueStudentList.remove(alicia);
+        uniqueStudentList.remove(bob);
+        assertEquals(List.of(alison.getName()), uniqueStudentList.findSimilarNames(new Name("Alison Tam"), 2, 3));
+        assertEquals(List.of(), uniqueStudentList.findSimilarNames(new Name("Bob Lim"), 2, 3));
+        uniqueStudentList.add(bob);
+        assertEquals(List.of(bob.getName()), uniqueStudentList.findSimilarNames(new Name("Bob Lim"), 2, 3));
+
+        uniqueStudentList.setStudents(List.of(alicia));
+        assertEquals(List.of(alicia.getName()), uniqueStudentList.findSimilarNames(new Name("Alice Tan"), 2, 3));
+    }
+
+    @Test
+    public void findByLevel_modifyView_throwsUnsupportedOperationException() {
+        uniqueStudentList.add(ALICE);
+        assertThrows(UnsupportedOperationException.class, ()
+            -> uniqueStudentList.findByLevel(ALICE.getLevel()).remove(ALICE));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
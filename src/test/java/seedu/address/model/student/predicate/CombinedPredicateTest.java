@@ -0,0 +1,128 @@
+package seedu.address.model.student.predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.DANIEL;
+import static seedu.address.testutil.TypicalStudents.ELLE;
+import static seedu.address.testutil.TypicalStudents.FIONA;
+import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.StudentBuilder;
+
+public class CombinedPredicateTest {
+    private final NameContainsKeywordsPredicate meierPredicate = new NameContainsKeywordsPredicate(List.of("Meier"));
+    private final LevelContainsKeywordsPredicate s2ntPredicate = new LevelContainsKeywordsPredicate(List.of("S2 NT"));
+    private final SubjectContainsKeywordsPredicate mathPredicate =
+            new SubjectContainsKeywordsPredicate(List.of("MATH"));
+    private final TaskListNotEmptyPredicate pendingTasksPredicate = new TaskListNotEmptyPredicate();
+    private final LessonDayContainsKeywordsPredicate wednesdayPredicate =
+            new LessonDayContainsKeywordsPredicate(List.of("WED"));
+    private final QueryPredicate unindexedPendingTasksPredicate = student -> student.getTaskList().size() > 0;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        CombinedPredicate firstPredicate = new CombinedPredicate(List.of(meierPredicate, s2ntPredicate), true);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new CombinedPredicate(List.of(meierPredicate, s2ntPredicate), true)));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different predicates -> returns false
+        assertFalse(firstPredicate.equals(new CombinedPredicate(List.of(meierPredicate, mathPredicate), true)));
+
+        // different matching -> returns false
+        assertFalse(firstPredicate.equals(new CombinedPredicate(List.of(meierPredicate, s2ntPredicate), false)));
+    }
+
+    @Test
+    public void test_matchAll() {
+        CombinedPredicate predicate = new CombinedPredicate(List.of(meierPredicate, mathPredicate), true);
+        assertTrue(predicate.test(BENSON));
+        assertTrue(predicate.test(DANIEL));
+        assertFalse(predicate.test(new StudentBuilder().withName("Hoon Meier").build()));
+        assertFalse(predicate.test(new StudentBuilder().withName("Math Student").withSubjects("MATH").build()));
+    }
+
+    @Test
+    public void test_matchAny() {
+        CombinedPredicate predicate = new CombinedPredicate(List.of(s2ntPredicate, pendingTasksPredicate), false);
+        assertTrue(predicate.test(BENSON));
+        assertTrue(predicate.test(FIONA));
+        assertFalse(predicate.test(ELLE));
+    }
+
+    @Test
+    public void findMatches_matchAll_intersectsIndexedThenTestsResiduals() {
+        assertEquals(Optional.of(Set.of(BENSON, DANIEL)),
+                new CombinedPredicate(List.of(meierPredicate, mathPredicate), true).findMatches(model));
+        assertEquals(Optional.of(Set.of(BENSON)), new CombinedPredicate(
+                List.of(s2ntPredicate, wednesdayPredicate, mathPredicate), true).findMatches(model));
+
+        CombinedPredicate scannedPredicate = new CombinedPredicate(List.of(pendingTasksPredicate, wednesdayPredicate),
+                true);
+        assertEquals(Optional.of(testAll(scannedPredicate)), scannedPredicate.findMatches(model));
+
+        // no indexed predicate -> every student has to be tested
+        assertEquals(Optional.empty(), new CombinedPredicate(
+                List.of(unindexedPendingTasksPredicate), true).findMatches(model));
+    }
+
+    @Test
+    public void findMatches_matchAny_unionsIndexed() {
+        assertEquals(Optional.of(Set.of(BENSON, FIONA, DANIEL)),
+                new CombinedPredicate(List.of(s2ntPredicate, mathPredicate), false).findMatches(model));
+
+        CombinedPredicate scannedPredicate = new CombinedPredicate(List.of(s2ntPredicate, pendingTasksPredicate),
+                false);
+        assertEquals(Optional.of(testAll(scannedPredicate)), scannedPredicate.findMatches(model));
+
+        // some predicate not indexed -> every student has to be tested
+        assertEquals(Optional.empty(), new CombinedPredicate(
+                List.of(s2ntPredicate, unindexedPendingTasksPredicate), false).findMatches(model));
+    }
+
+    @Test
+    public void toIndexedPredicate_sameResultsAsTest() {
+        List<CombinedPredicate> predicates = List.of(
+                new CombinedPredicate(List.of(meierPredicate, mathPredicate, pendingTasksPredicate), true),
+                new CombinedPredicate(List.of(s2ntPredicate, wednesdayPredicate), true),
+                new CombinedPredicate(List.of(meierPredicate, s2ntPredicate), false),
+                new CombinedPredicate(List.of(mathPredicate, wednesdayPredicate), false));
+        for (CombinedPredicate predicate : predicates) {
+            Predicate<Student> indexedPredicate = predicate.toIndexedPredicate(model);
+            for (Student student : model.getAddressBook().getStudentList()) {
+                assertEquals(predicate.test(student), indexedPredicate.test(student));
+            }
+        }
+    }
+
+    private Set<Student> testAll(Predicate<Student> predicate) {
+        return model.getAddressBook().getStudentList().stream()
+                .filter(predicate)
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.model.student.predicate;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.StudentBuilder;
+
+public class LessonDayContainsKeywordsPredicateTest {
+    @Test
+    public void equals() {
+        List<String> firstPredicateKeywordList = Collections.singletonList("MON");
+        List<String> secondPredicateKeywordList = Arrays.asList("MON", "TUE");
+
+        LessonDayContainsKeywordsPredicate firstPredicate =
+                new LessonDayContainsKeywordsPredicate(firstPredicateKeywordList);
+        LessonDayContainsKeywordsPredicate secondPredicate =
+                new LessonDayContainsKeywordsPredicate(secondPredicateKeywordList);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new LessonDayContainsKeywordsPredicate(firstPredicateKeywordList)));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_lessonOnKeywordDay_returnsTrue() {
+        // One keyword
+        LessonDayContainsKeywordsPredicate predicate =
+                new LessonDayContainsKeywordsPredicate(Collections.singletonList("MON"));
+        assertTrue(predicate.test(new StudentBuilder().withLessonTimes("MON-10:00-11:00").build()));
+
+        // Mixed-case keywords, only one matching
+        predicate = new LessonDayContainsKeywordsPredicate(Arrays.asList("tue", "sUn"));
+        assertTrue(predicate.test(new StudentBuilder().withLessonTimes("MON-10:00-11:00", "SUN-10:00-11:00").build()));
+    }
+
+    @Test
+    public void test_noLessonOnKeywordDay_returnsFalse() {
+        // Zero keywords
+        LessonDayContainsKeywordsPredicate predicate = new LessonDayContainsKeywordsPredicate(Collections.emptyList());
+        assertFalse(predicate.test(new StudentBuilder().withLessonTimes("MON-10:00-11:00").build()));
+
+        // Non-matching keyword
+        predicate = new LessonDayContainsKeywordsPredicate(Arrays.asList("TUE"));
+        assertFalse(predicate.test(new StudentBuilder().withLessonTimes("MON-10:00-11:00").build()));
+
+        // No lessons
+        assertFalse(predicate.test(new StudentBuilder().build()));
+
+        // Keywords that are not days
+        predicate = new LessonDayContainsKeywordsPredicate(Arrays.asList("MONDAY", "10:00"));
+        assertFalse(predicate.test(new StudentBuilder().withLessonTimes("MON-10:00-11:00").build()));
+    }
+}
@@ -1,14 +1,23 @@
 package seedu.address.model.student.predicate;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.student.Student;
 import seedu.address.testutil.StudentBuilder;
 
 public class LevelContainsKeywordsPredicateTest {
@@ -65,4 +74,25 @@ public class LevelContainsKeywordsPredicateTest {
         assertFalse(predicate.test(new StudentBuilder().withLevel("S1 NA").withPhone("12345")
                 .withAddress("Main Street").build()));
     }
+
+    @Test
+    public void toIndexedPredicate_sameResultsAsTest() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        for (List<String> keywords : List.of(List.of("S2 NT"), List.of("S2 NT", "S3 NA"), List.of("s2 nt"))) {
+            LevelContainsKeywordsPredicate predicate = new LevelContainsKeywordsPredicate(keywords);
+            Predicate<Student> indexedPredicate = predicate.toIndexedPredicate(model);
+            for (Student student : model.getAddressBook().getStudentList()) {
+                assertEquals(predicate.test(student), indexedPredicate.test(student));
+            }
+        }
+
+        // address book modified -> students added later are still matched
+        Predicate<Student> indexedPredicate = new LevelContainsKeywordsPredicate(List.of("S2 NT"))
+                .toIndexedPredicate(model);
+        Student added = new StudentBuilder().withName("Added Student").withLevel("S2 NT").build();
+        model.addStudent(added);
+        assertTrue(indexedPredicate.test(added));
+        assertTrue(indexedPredicate.test(BENSON));
+        assertFalse(indexedPredicate.test(ALICE));
+    }
 }
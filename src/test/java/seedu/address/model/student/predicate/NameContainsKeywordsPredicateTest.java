@@ -3,13 +3,21 @@ package seedu.address.model.student.predicate;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.student.Student;
 import seedu.address.testutil.StudentBuilder;
 
 public class NameContainsKeywordsPredicateTest {
@@ -75,6 +83,24 @@ public class NameContainsKeywordsPredicateTest {
                 .withAddress("Main Street").build()));
     }
 
+    @Test
+    public void toIndexedPredicate_sameResultsAsTest() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("alice", "MEIER"));
+        Predicate<Student> indexedPredicate = predicate.toIndexedPredicate(model);
+
+        for (Student student : model.getAddressBook().getStudentList()) {
+            assertEquals(predicate.test(student), indexedPredicate.test(student));
+        }
+
+        // address book modified -> students added later are still matched
+        Student aliceMeier = new StudentBuilder().withName("Alice Meier").build();
+        model.addStudent(aliceMeier);
+        assertTrue(indexedPredicate.test(aliceMeier));
+        assertTrue(indexedPredicate.test(ALICE));
+        assertTrue(indexedPredicate.test(BENSON));
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
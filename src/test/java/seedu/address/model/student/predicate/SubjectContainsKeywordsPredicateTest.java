@@ -54,6 +54,10 @@ public class SubjectContainsKeywordsPredicateTest {
         // Only one matching keyword
         predicate = new SubjectContainsKeywordsPredicate(Arrays.asList("ENGLISH", "PHYSICS"));
         assertTrue(predicate.test(new StudentBuilder().withSubjects("MATH", "ENGLISH").build()));
+
+        // Mixed-case keywords
+        predicate = new SubjectContainsKeywordsPredicate(Arrays.asList("pHySiCs", "notASubject"));
+        assertTrue(predicate.test(new StudentBuilder().withSubjects("MATH", "PHYSICS").build()));
     }
 
     @Test
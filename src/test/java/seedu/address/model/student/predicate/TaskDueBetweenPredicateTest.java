@@ -0,0 +1,102 @@
+package seedu.address.model.student.predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalTasks.GRADING_TASK;
+import static seedu.address.testutil.TypicalTasks.MARKING_TASK;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.StudentBuilder;
+
+public class TaskDueBetweenPredicateTest {
+    private static final LocalDate NEW_YEAR = LocalDate.of(2024, 1, 1);
+    private static final LocalDate NEW_YEAR_EVE = LocalDate.of(2024, 12, 31);
+
+    @Test
+    public void constructor_firstDayAfterLastDay_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new TaskDueBetweenPredicate(NEW_YEAR_EVE, NEW_YEAR));
+    }
+
+    @Test
+    public void equals() {
+        TaskDueBetweenPredicate firstPredicate = new TaskDueBetweenPredicate(NEW_YEAR, NEW_YEAR);
+        TaskDueBetweenPredicate secondPredicate = new TaskDueBetweenPredicate(NEW_YEAR, NEW_YEAR_EVE);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new TaskDueBetweenPredicate(NEW_YEAR, NEW_YEAR)));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different days -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_taskDueBetween_returnsTrue() {
+        // due on the first day
+        assertTrue(new TaskDueBetweenPredicate(NEW_YEAR, NEW_YEAR).test(BENSON));
+
+        // due on the last day
+        assertTrue(new TaskDueBetweenPredicate(NEW_YEAR.plusDays(1), NEW_YEAR_EVE).test(BENSON));
+    }
+
+    @Test
+    public void test_noTaskDueBetween_returnsFalse() {
+        // no tasks
+        assertFalse(new TaskDueBetweenPredicate(NEW_YEAR, NEW_YEAR_EVE).test(ALICE));
+
+        // tasks due outside the days
+        assertFalse(new TaskDueBetweenPredicate(NEW_YEAR.plusDays(1), NEW_YEAR_EVE.minusDays(1)).test(BENSON));
+        assertFalse(new TaskDueBetweenPredicate(NEW_YEAR_EVE.plusDays(1), NEW_YEAR_EVE.plusDays(1)).test(
+                new StudentBuilder().withTaskList(MARKING_TASK, GRADING_TASK).build()));
+    }
+
+    @Test
+    public void toIndexedPredicate_sameResultsAsTest() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        for (TaskDueBetweenPredicate predicate : List.of(new TaskDueBetweenPredicate(NEW_YEAR, NEW_YEAR),
+                new TaskDueBetweenPredicate(NEW_YEAR.plusDays(1), NEW_YEAR_EVE.minusDays(1)))) {
+            Predicate<Student> indexedPredicate = predicate.toIndexedPredicate(model);
+            for (Student student : model.getAddressBook().getStudentList()) {
+                assertEquals(predicate.test(student), indexedPredicate.test(student));
+            }
+        }
+
+        // address book modified -> updated students are still matched
+        Predicate<Student> indexedPredicate = new TaskDueBetweenPredicate(NEW_YEAR, NEW_YEAR)
+                .toIndexedPredicate(model);
+        Student updated = new StudentBuilder(BENSON).withPhone("91234567").build();
+        model.setStudent(BENSON, updated);
+        assertTrue(indexedPredicate.test(updated));
+        assertFalse(indexedPredicate.test(ALICE));
+    }
+
+    @Test
+    public void toStringMethod() {
+        TaskDueBetweenPredicate predicate = new TaskDueBetweenPredicate(NEW_YEAR, NEW_YEAR_EVE);
+        String expected = TaskDueBetweenPredicate.class.getCanonicalName() + "{from=" + NEW_YEAR + ", to="
+                + NEW_YEAR_EVE + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -0,0 +1,133 @@
+package seedu.address.model.student.predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.StudentBuilder;
+import seedu.address.testutil.TaskBuilder;
+
+public class TextContainsKeywordsPredicateTest {
+    @Test
+    public void equals() {
+        List<String> firstPredicateKeywordList = Collections.singletonList("essay");
+        List<String> secondPredicateKeywordList = Arrays.asList("essay", "macbeth");
+
+        TextContainsKeywordsPredicate firstPredicate = new TextContainsKeywordsPredicate(firstPredicateKeywordList);
+        TextContainsKeywordsPredicate secondPredicate = new TextContainsKeywordsPredicate(secondPredicateKeywordList);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new TextContainsKeywordsPredicate(firstPredicateKeywordList)));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_textContainsKeywords_returnsTrue() {
+        // Keyword in note, with different case and punctuation
+        TextContainsKeywordsPredicate predicate = new TextContainsKeywordsPredicate(List.of("macbeth"));
+        assertTrue(predicate.test(new StudentBuilder().withNote("Struggling with MACBETH's themes").build()));
+
+        // Keyword in task description, only one keyword matching
+        predicate = new TextContainsKeywordsPredicate(List.of("poem", "essay"));
+        assertTrue(predicate.test(new StudentBuilder()
+                .withTaskList(new TaskBuilder().withTaskDescription("Mark essay on Macbeth").build()).build()));
+    }
+
+    @Test
+    public void test_textDoesNotContainKeywords_returnsFalse() {
+        // Zero keywords
+        TextContainsKeywordsPredicate predicate = new TextContainsKeywordsPredicate(Collections.emptyList());
+        assertFalse(predicate.test(new StudentBuilder().withNote("Essay").build()));
+
+        // Partial word
+        predicate = new TextContainsKeywordsPredicate(List.of("ess"));
+        assertFalse(predicate.test(new StudentBuilder().withNote("Essay").build()));
+
+        // Keyword only in name
+        predicate = new TextContainsKeywordsPredicate(List.of("alice"));
+        assertFalse(predicate.test(new StudentBuilder().withName("Alice").withNote("Essay").build()));
+    }
+
+    @Test
+    public void toIndexedPredicate_sameResultsAsTest() {
+        Student noteOnly = new StudentBuilder().withName("Note Only").withNote("essay essay").build();
+        Student taskOnly = new StudentBuilder().withName("Task Only")
+                .withTaskList(new TaskBuilder().withTaskDescription("Macbeth essay").build()).build();
+        Student neither = new StudentBuilder().withName("Neither").withNote("poem").build();
+        Model model = new ModelManager();
+        List.of(noteOnly, taskOnly, neither).forEach(model::addStudent);
+
+        TextContainsKeywordsPredicate predicate = new TextContainsKeywordsPredicate(List.of("essay", "macbeth"));
+        for (Student student : model.getAddressBook().getStudentList()) {
+            assertEquals(predicate.test(student), predicate.toIndexedPredicate(model).test(student));
+        }
+    }
+
+    @Test
+    public void rankMatches_moreFrequentFirst() {
+        Student once = new StudentBuilder().withName("Once").withNote("essay").build();
+        Student thrice = new StudentBuilder().withName("Thrice").withNote("essay, essay")
+                .withTaskList(new TaskBuilder().withTaskDescription("Macbeth essay").build()).build();
+        Student none = new StudentBuilder().withName("None").build();
+        Model model = new ModelManager();
+        List.of(once, thrice, none).forEach(model::addStudent);
+
+        Comparator<Student> ranking = new TextContainsKeywordsPredicate(List.of("essay")).rankMatches(model).get();
+        assertEquals(List.of(thrice, once, none), model.getAddressBook().getStudentList().stream()
+                .sorted(ranking).toList());
+    }
+
+    @Test
+    public void rankMatches_afterIndexedQuery_wordsLookedUpOnce() {
+        AtomicInteger lookupCount = new AtomicInteger();
+        Model model = new ModelManager() {
+            @Override
+            public Map<Student, Integer> findStudentsByWords(Collection<String> words) {
+                lookupCount.incrementAndGet();
+                return super.findStudentsByWords(words);
+            }
+        };
+        Student writer = new StudentBuilder().withName("Writer").withNote("essay, essay").build();
+        Student reader = new StudentBuilder().withName("Reader").withNote("essay").build();
+        List.of(reader, writer).forEach(model::addStudent);
+
+        TextContainsKeywordsPredicate predicate = new TextContainsKeywordsPredicate(List.of("essay"));
+        model.updateFilteredStudentList(predicate.toIndexedPredicate(model), predicate.rankMatches(model).get());
+        assertEquals(List.of(writer, reader), model.getFilteredStudentList());
+        assertEquals(1, lookupCount.get());
+
+        // combined with another query -> looked up once for the combined query
+        CombinedPredicate combinedPredicate = new CombinedPredicate(
+                List.of(new TextContainsKeywordsPredicate(List.of("essay")), new NameContainsKeywordsPredicate(
+                        List.of("Reader", "Writer"))), true);
+        model.addStudent(new StudentBuilder().withName("Editor").withNote("essay").build());
+        model.updateFilteredStudentList(combinedPredicate.toIndexedPredicate(model),
+                combinedPredicate.rankMatches(model).get());
+        assertEquals(List.of(writer, reader), model.getFilteredStudentList());
+        assertEquals(2, lookupCount.get());
+    }
+}
@@ -65,6 +65,19 @@ public class TaskDeadlineTest {
         assertFalse(taskDeadline.equals(new TaskDeadline("2023-01-01")));
     }
 
+    @Test
+    public void compareTo() {
+        TaskDeadline taskDeadline = new TaskDeadline("2024-01-01");
+
+        // same date -> 0
+        assertEquals(0, taskDeadline.compareTo(new TaskDeadline("2024-01-01")));
+
+        // earlier and later dates
+        assertTrue(taskDeadline.compareTo(new TaskDeadline("2024-01-02")) < 0);
+        assertTrue(taskDeadline.compareTo(new TaskDeadline("2023-12-31")) > 0);
+        assertTrue(taskDeadline.compareTo(new TaskDeadline("1970-01-01")) > 0);
+    }
+
     @Test
     public void hashcode_equivalents() {
         TaskDeadline taskDeadline = new TaskDeadline("2024-12-25");
@@ -1,13 +1,17 @@
 package seedu.address.model.student.task;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalTasks.GRADING_TASK;
 import static seedu.address.testutil.TypicalTasks.MARKING_TASK;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
@@ -26,7 +30,6 @@ public class TaskListTest {
         tasks.add(GRADING_TASK);
         tasks.add(MARKING_TASK);
         tl1.setTasks(tasks);
-        tl1.sortByDeadline();
 
         TaskList tl2 = new TaskList();
         List<Task> tasks2 = new ArrayList<>();
@@ -37,6 +40,31 @@ public class TaskListTest {
         assertEquals(tl2, tl1);
     }
 
+    @Test
+    public void constructor_list_sortedByDeadlineInOrderGiven() {
+        Random random = new Random(1);
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            tasks.add(new TaskBuilder().withTaskDescription("Task " + i)
+                    .withTaskDeadline(LocalDate.of(2024, 1, 1).plusDays(random.nextInt(30)).toString()).build());
+        }
+        TaskList taskList = new TaskList(tasks);
+
+        List<Task> expectedTasks = new ArrayList<>(tasks);
+        expectedTasks.sort(Task::compareTo);
+        assertEquals(expectedTasks, toList(taskList));
+
+        // tree built from a list -> modified like any other
+        Task added = new TaskBuilder().withTaskDescription("Added").withTaskDeadline("2024-01-15").build();
+        taskList.add(added);
+        taskList.remove(expectedTasks.get(500));
+        expectedTasks.remove(500);
+        expectedTasks.add(added);
+        expectedTasks.sort(Task::compareTo);
+        assertEquals(expectedTasks, toList(taskList));
+        assertEquals(added, taskList.get(expectedTasks.indexOf(added)));
+    }
+
     @Test
     public void add_nullStudent_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> taskList.add(null));
@@ -165,6 +193,58 @@ public class TaskListTest {
         assertEquals(updatedTask, updatedTaskList.get(0));
     }
 
+    @Test
+    public void add_sameDeadline_keptInOrderAdded() {
+        Task first = new TaskBuilder().withTaskDescription("First").withTaskDeadline("2024-06-01").build();
+        Task second = new TaskBuilder().withTaskDescription("Second").withTaskDeadline("2024-06-01").build();
+        taskList.add(GRADING_TASK);
+        taskList.add(first);
+        taskList.add(MARKING_TASK);
+        taskList.add(second);
+
+        assertEquals(List.of(MARKING_TASK, first, second, GRADING_TASK), toList(taskList));
+        assertEquals(second, taskList.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> taskList.get(4));
+    }
+
+    @Test
+    public void copy_modifyEitherList_otherListUnchanged() {
+        taskList.add(MARKING_TASK);
+        TaskList copy = taskList.copy();
+        assertEquals(taskList, copy);
+
+        copy.add(GRADING_TASK);
+        assertEquals(List.of(MARKING_TASK), toList(taskList));
+        taskList.remove(MARKING_TASK);
+        assertEquals(List.of(MARKING_TASK, GRADING_TASK), toList(copy));
+    }
+
+    @Test
+    public void modifications_manyTasks_sameAsSortedList() {
+        Random random = new Random(1);
+        TaskList tasks = new TaskList();
+        List<Task> expectedTasks = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            Task task = new TaskBuilder().withTaskDescription("Task " + i)
+                    .withTaskDeadline(LocalDate.of(2024, 1, 1).plusDays(random.nextInt(30)).toString()).build();
+            if (!expectedTasks.isEmpty() && random.nextInt(3) == 0) {
+                Task toRemove = expectedTasks.remove(random.nextInt(expectedTasks.size()));
+                assertTrue(tasks.contains(toRemove));
+                tasks.remove(toRemove);
+                assertFalse(tasks.contains(toRemove));
+            }
+            tasks.add(task);
+            expectedTasks.add(task);
+            expectedTasks.sort(Task::compareTo);
+        }
+
+        assertEquals(expectedTasks, toList(tasks));
+        assertEquals(expectedTasks.size(), tasks.size());
+        for (int i = 0; i < expectedTasks.size(); i++) {
+            assertEquals(expectedTasks.get(i), tasks.get(i));
+        }
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -181,4 +261,10 @@ public class TaskListTest {
         taskList.add(GRADING_TASK);
         assertEquals(converted, taskList.getjsonAdaptedTaskList());
     }
+
+    private static List<Task> toList(TaskList taskList) {
+        List<Task> tasks = new ArrayList<>();
+        taskList.forEach(tasks::add);
+        return tasks;
+    }
 }
@@ -0,0 +1,203 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.HOON;
+import static seedu.address.testutil.TypicalStudents.IDA;
+import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class AsyncAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AsyncAddressBookStorage(null));
+    }
+
+    @Test
+    public void saveAddressBook_flushed_writtenToStorage() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        storage.flush();
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_modifiedAfterSave_snapshotWritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        original.removeStudent(ALICE);
+        storage.flush();
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_savesDuringWrite_coalesced() throws Exception {
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch firstWriteReleased = new CountDownLatch(1);
+        List<ReadOnlyAddressBook> written = new ArrayList<>();
+        JsonAddressBookStorage blockingStorage = new JsonAddressBookStorage(testFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                written.add(new AddressBook(addressBook));
+                firstWriteStarted.countDown();
+                try {
+                    firstWriteReleased.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+            }
+        };
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(blockingStorage);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        firstWriteStarted.await();
+        original.addStudent(HOON);
+        storage.saveAddressBook(original);
+        original.addStudent(IDA);
+        storage.saveAddressBook(original);
+        firstWriteReleased.countDown();
+        storage.flush();
+
+        assertEquals(List.of(getTypicalAddressBook(), original), written);
+    }
+
+    @Test
+    public void flush_writeFailed_failedSnapshotWrittenOnceFailureClears() throws Exception {
+        IOException failure = new IOException("dummy IO exception");
+        AtomicBoolean isFailing = new AtomicBoolean(true);
+        Path filePath = testFolder.resolve("ab.json");
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(failingStorage(filePath, isFailing, failure));
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertThrows(IOException.class, failure.getMessage(), storage::flush);
+
+        // still failing -> reported again
+        assertThrows(IOException.class, failure.getMessage(), storage::flush);
+
+        isFailing.set(false);
+        storage.flush();
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void checkSaved_writeFailed_throwsBackgroundSaveExceptionWithFailedVersion() throws Exception {
+        IOException failure = new IOException("dummy IO exception");
+        AtomicBoolean isFailing = new AtomicBoolean(true);
+        Path filePath = testFolder.resolve("ab.json");
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(failingStorage(filePath, isFailing, failure));
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        long failedVersion = original.getVersion();
+        original.addStudent(HOON);
+
+        BackgroundSaveException thrown = awaitWriteFailure(storage);
+        assertEquals(failedVersion, thrown.getVersion());
+        assertEquals(failure, thrown.getCause());
+
+        isFailing.set(false);
+        storage.flush();
+        assertTrue(storage.checkSaved());
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_earlierWriteFailed_newSnapshotStillWritten() throws Exception {
+        IOException failure = new IOException("dummy IO exception");
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch firstWriteReleased = new CountDownLatch(1);
+        CountDownLatch secondWriteStarted = new CountDownLatch(1);
+        AtomicInteger writeCount = new AtomicInteger();
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(new JsonAddressBookStorage(
+                testFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (writeCount.incrementAndGet() == 1) {
+                    firstWriteStarted.countDown();
+                    try {
+                        firstWriteReleased.await();
+                    } catch (InterruptedException e) {
+                        throw new IOException(e);
+                    }
+                    throw failure;
+                }
+                secondWriteStarted.countDown();
+                super.saveAddressBook(addressBook, filePath);
+            }
+        });
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        firstWriteStarted.await();
+        original.addStudent(HOON);
+        storage.saveAddressBook(original);
+        firstWriteReleased.countDown();
+
+        // the second write starts only once the failure of the first has been recorded
+        secondWriteStarted.await();
+        original.addStudent(IDA);
+        assertThrows(IOException.class, failure.getMessage(), () -> storage.saveAddressBook(original));
+        storage.flush();
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    /**
+     * Waits until {@code storage} reports a failed write, and returns the failure.
+     * A failure is recorded before the writer stops, so {@code storage} reports it before reporting every save written.
+     */
+    private static BackgroundSaveException awaitWriteFailure(AsyncAddressBookStorage storage) throws IOException {
+        try {
+            while (!storage.checkSaved()) {
+                Thread.yield();
+            }
+        } catch (BackgroundSaveException e) {
+            return e;
+        }
+        throw new AssertionError("Expected a write to fail");
+    }
+
+    /**
+     * Returns a storage writing to {@code filePath} that throws {@code failure} instead while {@code isFailing} is set.
+     */
+    private static AddressBookStorage failingStorage(Path filePath, AtomicBoolean isFailing, IOException failure) {
+        return new JsonAddressBookStorage(filePath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (isFailing.get()) {
+                    throw failure;
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+    }
+
+}
@@ -0,0 +1,137 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.HOON;
+import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.StudentBuilder;
+
+public class BinaryAddressBookStorageTest {
+    private static final Path JSON_TEST_DATA_FOLDER =
+            Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("NonExistentFile.bin"));
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        // Save in new file and read back
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addStudent(HOON);
+        original.removeStudent(ALICE);
+        storage.saveAddressBook(original);
+        readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_snapshotEpoch_epochReadBack() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(AddressBookSnapshot.withEpoch(getTypicalAddressBook(), 42));
+
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(42, AddressBookSnapshot.epochOf(readBack));
+        assertEquals(getTypicalAddressBook(), new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBook_formatVersionWithoutEpoch_readWithoutEpoch() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        Files.write(filePath, ByteBuffer.allocate(12).putInt(BinaryAddressBookStorage.MAGIC)
+                .putInt(BinaryAddressBookStorage.FORMAT_VERSION_WITHOUT_EPOCH).putInt(0).array());
+
+        ReadOnlyAddressBook readBack = new BinaryAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(AddressBookSnapshot.NO_EPOCH, AddressBookSnapshot.epochOf(readBack));
+        assertEquals(new AddressBook(), new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_imported() throws Exception {
+        Path jsonFilePath = JSON_TEST_DATA_FOLDER.resolve("typicalStudentsAddressBook.json");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(jsonFilePath);
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_invalidLessonTime_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addStudent(new StudentBuilder().withLessonTimes("MON-10:00-12:00").build());
+        storage.saveAddressBook(addressBook);
+
+        // The lesson time of the last student ends the file; set its end past the end of the day
+        byte[] bytes = Files.readAllBytes(filePath);
+        ByteBuffer.wrap(bytes).putShort(bytes.length - Short.BYTES, (short) (24 * 60));
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_lengthPastEndOfFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        Files.write(filePath, ByteBuffer.allocate(20).putInt(BinaryAddressBookStorage.MAGIC)
+                .putInt(BinaryAddressBookStorage.FORMAT_VERSION).putLong(1).putInt(Integer.MAX_VALUE).array());
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        Files.write(filePath, ByteBuffer.allocate(12).putInt(BinaryAddressBookStorage.MAGIC)
+                .putInt(BinaryAddressBookStorage.FORMAT_VERSION + 1).putInt(0).array());
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+}
@@ -0,0 +1,277 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.HOON;
+import static seedu.address.testutil.TypicalStudents.IDA;
+import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.StudentBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournaledAddressBookStorage((Path) null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("Missing.json"));
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_incrementalChanges_onlyJournalWritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+
+        original.addStudent(HOON);
+        storage.saveAddressBook(original);
+        original.removeStudent(ALICE);
+        storage.saveAddressBook(original);
+
+        // snapshot still holds the state of the first save
+        ReadOnlyAddressBook snapshot = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(getTypicalAddressBook(), new AddressBook(snapshot));
+        // the epoch of the snapshot, then one entry per change
+        assertEquals(3, Files.readAllLines(storage.getJournalFilePath()).size());
+
+        // snapshot and journal together hold the latest state
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_noChanges_journalNotWritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+    }
+
+    @Test
+    public void readAddressBook_updatesAndDeletes_orderPreserved() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        original.setStudent(BENSON, new StudentBuilder(BENSON).withName("Benson Renamed").build());
+        original.removeStudent(ALICE);
+        original.addStudent(IDA);
+        storage.saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original.getStudentList(), readBack.getStudentList());
+    }
+
+    @Test
+    public void saveAddressBook_bulkChange_snapshotWritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addStudent(HOON);
+        storage.saveAddressBook(original);
+
+        original.resetData(new AddressBook());
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        ReadOnlyAddressBook snapshot = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(new AddressBook(), new AddressBook(snapshot));
+    }
+
+    @Test
+    public void saveAddressBook_journalReachesThreshold_compactedIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath), 2);
+        storage.saveAddressBook(original);
+
+        original.addStudent(HOON);
+        storage.saveAddressBook(original);
+        original.addStudent(IDA);
+        storage.saveAddressBook(original);
+        storage.flush();
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        ReadOnlyAddressBook snapshot = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(snapshot));
+    }
+
+    @Test
+    public void readAddressBook_tornLastEntry_ignored() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addStudent(HOON);
+        storage.saveAddressBook(original);
+
+        Files.write(storage.getJournalFilePath(), List.of("{\"type\":\"add\",\"ind"),
+                StandardOpenOption.APPEND);
+
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_crashAfterSnapshotBeforeJournalDeleted_journalSkipped() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addStudent(HOON);
+        original.removeStudent(ALICE);
+        storage.saveAddressBook(original);
+        List<String> journal = Files.readAllLines(storage.getJournalFilePath());
+
+        // a snapshot holding the journaled changes was written, but the journal was not deleted
+        original.resetData(new AddressBookBuilder().withStudent(IDA).build());
+        storage.saveAddressBook(original);
+        Files.write(storage.getJournalFilePath(), journal);
+
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_crashAfterCompactionBeforeJournalDeleted_onlyNewJournalReplayed() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path compactingJournalPath = filePath.resolveSibling(filePath.getFileName() + ".journal.compacting");
+        Path keptJournalPath = testFolder.resolve("kept.journal");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(
+                new CompactionSpyStorage(filePath, keptJournalPath, false), 2);
+        storage.saveAddressBook(original);
+        original.addStudent(HOON);
+        storage.saveAddressBook(original);
+        original.addStudent(IDA);
+        storage.saveAddressBook(original);
+        storage.flush();
+
+        // the journal was rotated and compacted into a snapshot, but the rotated journal was not deleted
+        Files.copy(keptJournalPath, compactingJournalPath);
+        original.removeStudent(ALICE);
+        storage.saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_compactionFailed_rotatedAndNewJournalsReplayed() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(
+                new CompactionSpyStorage(filePath, testFolder.resolve("kept.journal"), true), 2);
+        storage.saveAddressBook(original);
+        original.addStudent(HOON);
+        storage.saveAddressBook(original);
+        original.addStudent(IDA);
+        storage.saveAddressBook(original);
+        assertThrows(IOException.class, storage::flush);
+
+        // changes saved after the failed compaction go to a new journal on top of the rotated one
+        original.removeStudent(ALICE);
+        storage.saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_duplicateStudentInJournal_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addStudent(HOON);
+        storage.saveAddressBook(original);
+
+        // a journal without an epoch is replayed onto a snapshot that already holds its changes
+        List<String> lines = Files.readAllLines(storage.getJournalFilePath());
+        Files.write(storage.getJournalFilePath(), lines.subList(1, lines.size()));
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertThrows(DataLoadingException.class, () -> new JournaledAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_invalidEntry_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        Files.write(storage.getJournalFilePath(), List.of("{\"type\":\"delete\",\"index\":100}"));
+
+        assertThrows(DataLoadingException.class, () -> new JournaledAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_fullSnapshotWritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path exportPath = testFolder.resolve("Export.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original, exportPath);
+
+        assertTrue(Files.exists(exportPath));
+        assertFalse(Files.exists(filePath));
+        assertEquals(original, new AddressBook(storage.readAddressBook(exportPath).get()));
+    }
+
+    /**
+     * A JSON storage that keeps a copy of the rotated journal whenever a compaction writes a snapshot, and can fail
+     * those snapshots instead of writing them.
+     */
+    private static class CompactionSpyStorage extends JsonAddressBookStorage {
+        private final Path compactingJournalPath;
+        private final Path keptJournalPath;
+        private final boolean failsCompaction;
+
+        CompactionSpyStorage(Path filePath, Path keptJournalPath, boolean failsCompaction) {
+            super(filePath);
+            this.compactingJournalPath = filePath.resolveSibling(filePath.getFileName() + ".journal.compacting");
+            this.keptJournalPath = keptJournalPath;
+            this.failsCompaction = failsCompaction;
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            if (Files.exists(compactingJournalPath)) {
+                Files.copy(compactingJournalPath, keptJournalPath, StandardCopyOption.REPLACE_EXISTING);
+                if (failsCompaction) {
+                    throw new IOException("Compaction failed");
+                }
+            }
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+}
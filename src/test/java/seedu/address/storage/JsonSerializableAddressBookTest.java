@@ -7,10 +7,16 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.testutil.StudentBuilder;
 import seedu.address.testutil.TypicalStudents;
 
 public class JsonSerializableAddressBookTest {
@@ -20,6 +26,9 @@ public class JsonSerializableAddressBookTest {
     private static final Path INVALID_STUDENT_FILE = TEST_DATA_FOLDER.resolve("invalidStudentAddressBook.json");
     private static final Path DUPLICATE_STUDENT_FILE = TEST_DATA_FOLDER.resolve("duplicateStudentAddressBook.json");
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void toModelType_typicalStudentsFile_success() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_STUDENTS_FILE,
@@ -44,4 +53,55 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void readAddressBook_typicalStudentsFile_success() throws Exception {
+        try (JsonParser parser = JsonUtil.createJsonParser(TYPICAL_STUDENTS_FILE)) {
+            assertEquals(TypicalStudents.getTypicalAddressBook(), JsonSerializableAddressBook.readAddressBook(parser));
+        }
+    }
+
+    @Test
+    public void readAddressBook_invalidStudentFile_throwsIllegalValueException() throws Exception {
+        try (JsonParser parser = JsonUtil.createJsonParser(INVALID_STUDENT_FILE)) {
+            assertThrows(IllegalValueException.class, () -> JsonSerializableAddressBook.readAddressBook(parser));
+        }
+    }
+
+    @Test
+    public void readAddressBook_duplicateStudents_throwsIllegalValueException() throws Exception {
+        try (JsonParser parser = JsonUtil.createJsonParser(DUPLICATE_STUDENT_FILE)) {
+            assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_STUDENT, () ->
+                    JsonSerializableAddressBook.readAddressBook(parser));
+        }
+    }
+
+    @Test
+    public void readAddressBook_moreStudentsThanOneBatch_readInOrder() throws Exception {
+        AddressBook original = new AddressBook();
+        for (int i = 0; i < 5000; i++) {
+            original.addStudent(new StudentBuilder().withName("Student " + i).build());
+        }
+        Path filePath = testFolder.resolve("large.json");
+        try (JsonGenerator generator = JsonUtil.createJsonGenerator(filePath)) {
+            JsonSerializableAddressBook.writeAddressBook(original, generator);
+        }
+
+        try (JsonParser parser = JsonUtil.createJsonParser(filePath)) {
+            assertEquals(original, JsonSerializableAddressBook.readAddressBook(parser));
+        }
+    }
+
+    @Test
+    public void writeAddressBook_typicalStudents_sameAsObjectMapperOutput() throws Exception {
+        AddressBook typicalStudentsAddressBook = TypicalStudents.getTypicalAddressBook();
+        Path filePath = testFolder.resolve("streamed.json");
+
+        try (JsonGenerator generator = JsonUtil.createJsonGenerator(filePath)) {
+            JsonSerializableAddressBook.writeAddressBook(typicalStudentsAddressBook, generator);
+        }
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(typicalStudentsAddressBook)),
+                FileUtil.readFromFile(filePath));
+    }
+
 }
@@ -0,0 +1,202 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.HOON;
+import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.StudentBuilder;
+
+public class RecordAddressBookStorageTest {
+    private static final Path JSON_TEST_DATA_FOLDER =
+            Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        RecordAddressBookStorage storage = new RecordAddressBookStorage(testFolder.resolve("ab.dat"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        RecordAddressBookStorage storage = new RecordAddressBookStorage(testFolder.resolve("NonExistentFile.dat"));
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.dat");
+        AddressBook original = getTypicalAddressBook();
+        RecordAddressBookStorage storage = new RecordAddressBookStorage(filePath);
+
+        // Save in new file and read back
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addStudent(HOON);
+        original.removeStudent(ALICE);
+        storage.saveAddressBook(original);
+        readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBook_fileOverwrittenBeforeFirstAccess_originalDetailsRead() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.dat");
+        RecordAddressBookStorage storage = new RecordAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+
+        storage.saveAddressBook(new AddressBook());
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_sameFileBeforeFirstAccess_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.dat");
+        RecordAddressBookStorage storage = new RecordAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        // Students whose details were never accessed are written back to the file they were read from
+        storage.saveAddressBook(storage.readAddressBook().get());
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_snapshotEpoch_epochReadBack() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.dat");
+        RecordAddressBookStorage storage = new RecordAddressBookStorage(filePath);
+        storage.saveAddressBook(AddressBookSnapshot.withEpoch(getTypicalAddressBook(), 42));
+
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(42, AddressBookSnapshot.epochOf(readBack));
+        assertEquals(getTypicalAddressBook(), new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBook_formatVersionWithoutEpoch_readWithoutEpoch() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.dat");
+        Files.write(filePath, ByteBuffer.allocate(16).putInt(RecordAddressBookStorage.MAGIC)
+                .putInt(RecordAddressBookStorage.FORMAT_VERSION_WITHOUT_EPOCH).putInt(0).putInt(16).array());
+
+        ReadOnlyAddressBook readBack = new RecordAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(AddressBookSnapshot.NO_EPOCH, AddressBookSnapshot.epochOf(readBack));
+        assertEquals(new AddressBook(), new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_imported() throws Exception {
+        Path jsonFilePath = JSON_TEST_DATA_FOLDER.resolve("typicalStudentsAddressBook.json");
+        RecordAddressBookStorage storage = new RecordAddressBookStorage(jsonFilePath);
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.dat");
+        RecordAddressBookStorage storage = new RecordAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, 20));
+
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_detailsOffsetPastEndOfFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.dat");
+        RecordAddressBookStorage storage = new RecordAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        // The details offset of the first student follows the header
+        byte[] bytes = Files.readAllBytes(filePath);
+        ByteBuffer.wrap(bytes).putInt(4 * Integer.BYTES + Long.BYTES, bytes.length);
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_corruptDetailsRecord_reportedOnFirstAccess() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.dat");
+        RecordAddressBookStorage storage = new RecordAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        String content = new String(Files.readAllBytes(filePath), StandardCharsets.ISO_8859_1);
+        String address = ALICE.getAddress().value;
+        Files.write(filePath, content.replace(address, " ".repeat(address.length()))
+                .getBytes(StandardCharsets.ISO_8859_1));
+
+        // Details are not decoded while reading
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        Student alice = readBack.getStudentList().stream()
+                .filter(student -> student.isSameStudent(ALICE)).findFirst().get();
+        Student benson = readBack.getStudentList().stream()
+                .filter(student -> student.isSameStudent(BENSON)).findFirst().get();
+
+        assertThrows(IllegalStateException.class, alice::getAddress);
+        assertEquals(BENSON.getAddress(), benson.getAddress());
+    }
+
+    @Test
+    public void readAddressBook_invalidLessonTime_reportedOnFirstAccess() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.dat");
+        RecordAddressBookStorage storage = new RecordAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addStudent(new StudentBuilder().withLessonTimes("MON-10:00-12:00").build());
+        storage.saveAddressBook(addressBook);
+
+        // The lesson time of the last student ends the file; set its end past the end of the day
+        byte[] bytes = Files.readAllBytes(filePath);
+        ByteBuffer.wrap(bytes).putShort(bytes.length - Short.BYTES, (short) (24 * 60));
+        Files.write(filePath, bytes);
+
+        Student student = storage.readAddressBook().get().getStudentList().get(0);
+        assertThrows(IllegalStateException.class, student::getLessonTimes);
+    }
+
+    @Test
+    public void readAddressBook_lengthPastEndOfFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.dat");
+        Files.write(filePath, ByteBuffer.allocate(24).putInt(RecordAddressBookStorage.MAGIC)
+                .putInt(RecordAddressBookStorage.FORMAT_VERSION).putInt(Integer.MAX_VALUE).putInt(24).putLong(1)
+                .array());
+
+        assertThrows(DataLoadingException.class, () -> new RecordAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.dat");
+        Files.write(filePath, ByteBuffer.allocate(12).putInt(RecordAddressBookStorage.MAGIC)
+                .putInt(RecordAddressBookStorage.FORMAT_VERSION + 1).putInt(0).array());
+
+        assertThrows(DataLoadingException.class, () -> new RecordAddressBookStorage(filePath).readAddressBook());
+    }
+
+}
@@ -47,7 +47,7 @@ public class StudentBuilder {
         address = new Address(DEFAULT_ADDRESS);
         note = new Note(DEFAULT_NOTE);
         subjects = new HashSet<>();
-        level = new Level(DEFAULT_LEVEL);
+        level = Level.of(DEFAULT_LEVEL);
         taskList = new TaskListBuilder();
         lessonTimes = new HashSet<>();
     }
@@ -133,7 +133,7 @@ public class StudentBuilder {
      * @return the updated StudentBuilder instance
      */
     public StudentBuilder withLevel(String level) {
-        this.level = level.isEmpty() ? new Level("NONE NONE") : new Level(level);
+        this.level = level.isEmpty() ? Level.of("NONE NONE") : Level.of(level);
         return this;
     }
 
@@ -90,7 +90,7 @@ public class UpdateStudentDescriptorBuilder {
      * that we are building.
      */
     public UpdateStudentDescriptorBuilder withSubjects(String... subjects) {
-        Set<Subject> subjectSet = Stream.of(subjects).map(Subject::new).collect(Collectors.toSet());
+        Set<Subject> subjectSet = Stream.of(subjects).map(Subject::of).collect(Collectors.toSet());
         descriptor.setSubjects(subjectSet);
         return this;
     }
@@ -99,7 +99,7 @@ public class UpdateStudentDescriptorBuilder {
      * Sets the {@code Level} of the {@code UpdateStudentDescriptor} that we are building.
      */
     public UpdateStudentDescriptorBuilder withLevel(String level) {
-        descriptor.setLevel(new Level(level));
+        descriptor.setLevel(Level.of(level));
         return this;
     }
 